@@ -4,8 +4,9 @@ Llama-Guard-4-12b (필터링) + Llama-3.1-8b-instant (분석)
 + AI Writing Assistant 기능 추가
 """
 
-from fastapi import FastAPI, HTTPException
+from fastapi import Body, FastAPI, HTTPException, Query
 from fastapi.middleware.cors import CORSMiddleware
+from fastapi.responses import StreamingResponse
 from pydantic import BaseModel, Field
 from typing import List, Optional, Dict, Any, Union
 import logging
@@ -1474,28 +1475,49 @@ async def analyze_text(request: TextAnalysisRequest):
     return result
 
 
+class BatchAnalysisRequest(BaseModel):
+    texts: List[str]
+    language: Optional[str] = None
+    use_dual_model: Optional[bool] = None
+    custom_blocked_words: List[str] = Field(default=[], description="배치 공통 사용자 차단 단어")
+
+
+# 한 요청에서 분석하는 최대 텍스트 수 (Spring AIBatchClient.SERVER_MAX_BATCH 와 같아야 함)
+MAX_BATCH_TEXTS = 10
+
+
 @app.post("/analyze/batch")
 async def analyze_batch(
-    texts: List[str], 
+    payload: Union[BatchAnalysisRequest, List[str]] = Body(...),
     language: str = "ko",
-    use_dual_model: bool = True
+    use_dual_model: bool = True,
+    custom_blocked_words: List[str] = Query(default=[])  # 이전 호출 방식 호환 (쿼리 문자열)
 ):
-    """대량 분석"""
+    """대량 분석 (본문: 텍스트 배열 또는 {"texts": [...], "custom_blocked_words": [...]})"""
+    if isinstance(payload, BatchAnalysisRequest):
+        texts = payload.texts
+        language = payload.language or language
+        if payload.use_dual_model is not None:
+            use_dual_model = payload.use_dual_model
+        # 차단 단어 목록이 길면 URL 길이 제한을 넘으므로 본문으로 받음
+        custom_blocked_words = payload.custom_blocked_words or custom_blocked_words
+    else:
+        texts = payload
     logger.info(f"Batch analysis: {len(texts)} texts")
-    
-    results = []
-    for text in texts[:10]:
+
+    async def analyze_one(text: str):
         try:
-            result = await analyzer.analyze_text(text, language, use_dual_model)
-            results.append(result)
+            return await analyzer.analyze_text(text, language, use_dual_model, custom_blocked_words)
         except Exception as e:
             logger.error(f"Failed: {e}")
-            results.append(None)
-    
-    
+            return None
+
+    # 텍스트별 분석을 동시에 실행 (순서 유지)
+    results = await asyncio.gather(*(analyze_one(text) for text in texts[:MAX_BATCH_TEXTS]))
+
     return {
         "total": len(results),
-        "results": results,
+        "results": list(results),
         "dual_model": use_dual_model,
         "processed_at": datetime.now().isoformat()
     }
@@ -1505,42 +1527,136 @@ async def analyze_batch(
 
 class YoutubeCrawlRequest(BaseModel):
     url: str
+    # 이전 수집에서 가장 최신이었던 댓글 ID들 (증분 수집용, 최신순 정렬 기준)
+    known_ids: List[str] = []
+    # known_ids 가 이 개수만큼 연속으로 나오면 수집 중단 (고정 댓글이 맨 앞에 오는 경우 대비)
+    stop_after_known: int = 2
+    # True 이면 NDJSON 으로 한 줄에 댓글 하나씩 스트리밍 (전체 목록을 메모리에 모으지 않음)
+    stream: bool = False
+    # 수집 기간 시작 (ISO-8601, 예: 2024-01-20T00:00:00) - 이보다 오래된 댓글 구간에 도달하면 중단
+    since: Optional[str] = None
+    # since 보다 오래된 원댓글이 이 개수만큼 연속으로 나오면 중단 (고정 댓글 대비)
+    stop_after_older: int = 3
+
+
+def _minus_months(now: datetime, months: int) -> datetime:
+    """달력 기준 n개월 전 (말일은 해당 월의 마지막 날로 맞춤)"""
+    import calendar
+    month_index = now.year * 12 + (now.month - 1) - months
+    year, month = divmod(month_index, 12)
+    day = min(now.day, calendar.monthrange(year, month + 1)[1])
+    return now.replace(year=year, month=month + 1, day=day)
+
+
+def _parse_comment_time(text: str, now: datetime) -> Optional[datetime]:
+    """댓글 작성 시각 ("3일 전", "2 weeks ago", "2024. 1. 20.") - Spring RelativeDateParser 와 같은 규칙"""
+    if not text:
+        return None
+    from datetime import timedelta
+
+    absolute = re.search(r"(\d{4})\s*[.\-]\s*(\d{1,2})\s*[.\-]\s*(\d{1,2})", text)
+    if absolute:
+        return datetime(int(absolute.group(1)), int(absolute.group(2)), int(absolute.group(3)))
+
+    digits = re.sub(r"[^0-9]", "", text)
+    amount = int(digits) if digits else 1
+    lower = text.lower()
+    if "초" in lower or "second" in lower:
+        return now - timedelta(seconds=amount)
+    if "분" in lower or "minute" in lower:
+        return now - timedelta(minutes=amount)
+    if "시간" in lower or "hour" in lower:
+        return now - timedelta(hours=amount)
+    if "일" in lower or "day" in lower:
+        return now - timedelta(days=amount)
+    if "주" in lower or "week" in lower:
+        return now - timedelta(weeks=amount)
+    if "달" in lower or "개월" in lower or "month" in lower:
+        return _minus_months(now, amount)
+    if "년" in lower or "year" in lower:
+        return _minus_months(now, amount * 12)
+    return None
+
+
+def _iter_youtube_comments(request: YoutubeCrawlRequest, state: Dict[str, Any]):
+    """최신순으로 댓글을 하나씩 반환 (증분 수집 기준점 또는 수집 기간 시작에 도달하면 중단)"""
+    from youtube_comment_downloader import YoutubeCommentDownloader
+    downloader = YoutubeCommentDownloader()
+
+    # sort_by=1 (최신순)
+    generator = downloader.get_comments_from_url(request.url, sort_by=1)
+
+    known_ids = set(request.known_ids)
+    stop_after = min(max(1, request.stop_after_known), len(known_ids)) if known_ids else 0
+    consecutive_known = 0
+
+    since = datetime.fromisoformat(request.since) if request.since else None
+    stop_after_older = max(1, request.stop_after_older)
+    consecutive_older = 0
+    now = datetime.now()
+
+    for comment in generator:
+        # 기간 수집: 기간 시작보다 오래된 원댓글이 연속으로 나오면 이후는 모두 더 오래된 댓글
+        # (답글은 원댓글 뒤에 붙어 나오므로 연속 판정에 포함하지 않음)
+        if since is not None and not comment.get('reply', False):
+            published = _parse_comment_time(comment.get('time', ''), now)
+            if published is not None and published < since:
+                consecutive_older += 1
+                if consecutive_older >= stop_after_older:
+                    state["stopped_early"] = True
+                    return
+            else:
+                consecutive_older = 0
+
+        # 증분 수집: 이미 저장된 댓글 구간에 도달하면 중단
+        if known_ids:
+            if comment.get('cid', '') in known_ids:
+                consecutive_known += 1
+                if consecutive_known >= stop_after:
+                    state["stopped_early"] = True
+                    return
+                continue
+            consecutive_known = 0
+
+        state["count"] += 1
+        yield {
+            "external_id": comment.get('cid', ''),
+            "author": comment.get('author', 'Unknown'),
+            "text": comment.get('text', ''),
+            "publish_date": comment.get('time', ''),
+            "author_id": comment.get('channel', ''),
+            "like_count": comment.get('votes', 0)
+        }
+
 
 @app.post("/crawl/youtube")
 async def crawl_youtube(request: YoutubeCrawlRequest):
     """유튜브 댓글 수집 (youtube-comment-downloader 사용)"""
-    logger.info(f"Crawling YouTube comments for: {request.url}")
-    
-    try:
-        from youtube_comment_downloader import YoutubeCommentDownloader
-        downloader = YoutubeCommentDownloader()
-        
-        comments = []
-        # sort_by=1 (최신순), limit=100 (최대 100개만 수집하여 테스트)
-        generator = downloader.get_comments_from_url(request.url, sort_by=1)
-        
-        count = 0
-        for comment in generator:
-            # if count >= 500:
-            #     break
-                
+    logger.info(f"Crawling YouTube comments for: {request.url} (stream={request.stream})")
+    state = {"count": 0, "stopped_early": False}
 
-            comments.append({
-                "external_id": comment.get('cid', ''),
-                "author": comment.get('author', 'Unknown'),
-                "text": comment.get('text', ''),
-                "publish_date": comment.get('time', ''),
-                "author_id": comment.get('channel', ''),
-                "like_count": comment.get('votes', 0)
-            })
-            count += 1
-            
-        logger.info(f"Crawled {len(comments)} comments")
+    if request.stream:
+        def ndjson():
+            try:
+                for item in _iter_youtube_comments(request, state):
+                    yield json.dumps(item, ensure_ascii=False) + "\n"
+                logger.info(f"Streamed {state['count']} comments (stopped_early={state['stopped_early']})")
+            except Exception as e:
+                # 응답 헤더는 이미 전송됨 → 마지막 줄로 오류 전달
+                logger.error(f"Crawling failed: {e}")
+                yield json.dumps({"error": f"Crawling failed: {str(e)}"}, ensure_ascii=False) + "\n"
+
+        return StreamingResponse(ndjson(), media_type="application/x-ndjson")
+
+    try:
+        comments = list(_iter_youtube_comments(request, state))
+        logger.info(f"Crawled {len(comments)} comments (stopped_early={state['stopped_early']})")
         
         return {
             "status": "success",
             "video_url": request.url,
             "count": len(comments),
+            "stopped_early": state["stopped_early"],
             "comments": comments
         }
         
@@ -0,0 +1,118 @@
+// ==================== BlockedWordMatcherBenchmark.java ====================
+package com.sns.analyzer.service;
+
+import com.sns.analyzer.entity.BlockedWord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 차단 단어 매칭: 기존 contains 반복 vs 매처 vs 매처 + 우회 표기 정규화 (댓글 1건당 시간)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BlockedWordMatcherBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    private static final String[] WORDS = {
+            "시발", "씨발", "ㅅㅂ", "병신", "ㅂㅅ", "개새끼", "미친", "존나", "닥쳐", "꺼져",
+            "fuck", "shit", "bitch", "asshole", "광고", "구독", "홍보", "도박", "토토", "대출"
+    };
+
+    // 일반 댓글 + 우회 표기 댓글
+    private static final String[] COMMENTS = {
+            "영상 잘 봤습니다 다음 편도 기대할게요 ㅎㅎ",
+            "3:15 여기 진짜 웃기네ㅋㅋㅋㅋㅋㅋ",
+            "이 노래 들으면 학창시절 생각난다... 벌써 10년 전이라니",
+            "Great video, thanks for sharing! 👍👍",
+            "편집자님 고생 많으셨어요 👏 자막 타이밍 완벽함",
+            "씨 발 이게 말이 되냐",
+            "ㅅ.ㅂ 또 광고네",
+            "ㅅㅣㅂㅏㄹ 진짜 개웃기네",
+            "ѕhіt this is so good",
+            "무료 토.토 사이트 홍 보 합니다 ＵＲＬ 확인"
+    };
+
+    @Param({"20", "200"})
+    private int wordCount;
+
+    private String[] inputs;
+    private List<BlockedWord> blockedWords;
+    private BlockedWordMatcher rawMatcher;
+    private BlockedWordMatcher normalizedMatcher;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        blockedWords = new ArrayList<>(wordCount);
+        for (int i = 0; i < wordCount; i++) {
+            String word = i < WORDS.length ? WORDS[i] : WORDS[i % WORDS.length] + i;
+            blockedWords.add(BlockedWord.builder()
+                    .word(word)
+                    .severity(BlockedWord.Severity.MEDIUM)
+                    .isActive(true)
+                    .build());
+        }
+        inputs = new String[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            inputs[i] = COMMENTS[random.nextInt(COMMENTS.length)];
+        }
+        rawMatcher = BlockedWordMatcher.compile(blockedWords, false);
+        normalizedMatcher = BlockedWordMatcher.compile(blockedWords, true);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void containsLoop(Blackhole bh) {
+        for (String input : inputs) {
+            String content = input.toLowerCase();
+            BlockedWord matched = null;
+            for (BlockedWord word : blockedWords) {
+                if (content.contains(word.getWord().toLowerCase())) {
+                    matched = word;
+                    break;
+                }
+            }
+            bh.consume(matched);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void matcher(Blackhole bh) {
+        for (String input : inputs) {
+            bh.consume(rawMatcher.firstMatch(input));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void normalizedMatcher(Blackhole bh) {
+        for (String input : inputs) {
+            bh.consume(normalizedMatcher.firstMatch(input));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void normalizeOnly(Blackhole bh) {
+        for (String input : inputs) {
+            bh.consume(BlockedWordNormalizer.normalize(input));
+        }
+    }
+}
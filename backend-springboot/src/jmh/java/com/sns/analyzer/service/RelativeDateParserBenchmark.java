@@ -0,0 +1,108 @@
+// ==================== RelativeDateParserBenchmark.java ====================
+package com.sns.analyzer.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 작성 시각 파싱: 기존 정규식 방식 vs RelativeDateParser (댓글 1건당 시간)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RelativeDateParserBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    // 실제 YouTube 응답에 나오는 형식 (한국어/영어 상대 시각, 수정됨 표시, 절대 날짜)
+    private static final String[] FORMATS = {
+            "%d초 전", "%d분 전", "%d시간 전", "%d일 전", "%d주 전", "%d개월 전", "%d년 전",
+            "%d일 전(수정됨)", "%d seconds ago", "%d minutes ago", "%d hours ago", "%d days ago",
+            "%d weeks ago", "%d months ago", "%d years ago", "%d days ago (edited)", "2024. 1. %d.",
+            "2023-11-%d"
+    };
+
+    private String[] inputs;
+    private RelativeDateParser parser;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        inputs = new String[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            inputs[i] = String.format(FORMATS[random.nextInt(FORMATS.length)], 1 + random.nextInt(28));
+        }
+        parser = new RelativeDateParser(LocalDateTime.now());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void legacyRegex(Blackhole bh) {
+        for (String input : inputs) {
+            bh.consume(legacyParse(input));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void singlePass(Blackhole bh) {
+        for (String input : inputs) {
+            bh.consume(parser.parse(input));
+        }
+    }
+
+    /**
+     * 기존 CommentService.parseRelativeDate (비교 기준)
+     */
+    private static LocalDateTime legacyParse(String relativeTime) {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        if (relativeTime == null || relativeTime.isEmpty())
+            return now;
+
+        try {
+            String cleanDate = relativeTime.replaceAll("[^0-9.\\-]", "");
+            if (cleanDate.matches("\\d{4}[.\\-]\\d{1,2}[.\\-]\\d{1,2}.?")) {
+                String[] parts = cleanDate.split("[.\\-]");
+                int year = Integer.parseInt(parts[0]);
+                int month = Integer.parseInt(parts[1]);
+                int day = Integer.parseInt(parts[2].replaceAll("[^0-9]", ""));
+                return java.time.LocalDate.of(year, month, day).atStartOfDay();
+            }
+
+            String numericPart = relativeTime.replaceAll("[^0-9]", "");
+            int amount = numericPart.isEmpty() ? 1 : Integer.parseInt(numericPart);
+
+            String timeStr = relativeTime.toLowerCase();
+            if (timeStr.contains("초") || timeStr.contains("second")) {
+                return now.minusSeconds(amount);
+            } else if (timeStr.contains("분") || timeStr.contains("minute")) {
+                return now.minusMinutes(amount);
+            } else if (timeStr.contains("시간") || timeStr.contains("hour")) {
+                return now.minusHours(amount);
+            } else if (timeStr.contains("일") || timeStr.contains("day")) {
+                return now.minusDays(amount);
+            } else if (timeStr.contains("주") || timeStr.contains("week")) {
+                return now.minusWeeks(amount);
+            } else if (timeStr.contains("달") || timeStr.contains("개월") || timeStr.contains("month")) {
+                return now.minusMonths(amount);
+            } else if (timeStr.contains("년") || timeStr.contains("year")) {
+                return now.minusYears(amount);
+            }
+        } catch (Exception e) {
+            System.err.println("Failed to parse date: " + relativeTime + " - " + e.getMessage());
+        }
+        return now;
+    }
+}
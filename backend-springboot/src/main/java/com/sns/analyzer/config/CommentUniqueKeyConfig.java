@@ -0,0 +1,98 @@
+// ==================== CommentUniqueKeyConfig.java ====================
+package com.sns.analyzer.config;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * comments (user_id, external_comment_id) 유일 키 준비
+ * - 유일 키가 생기기 전 DB 에는 같은 댓글이 중복 저장된 행이 있을 수 있음
+ * - ddl-auto=update 는 중복 행이 있으면 유일 키 추가에 실패하고 경고만 남긴 채 계속 시작함
+ *   → 유일 키가 없으면 INSERT 중복 방지가 동작하지 않으므로 Hibernate 보다 먼저 중복을 정리하고 키를 직접 추가
+ * - 중복 중 가장 먼저 저장된 행(comment_id 최소)만 남기고 나머지 댓글과 분석 결과/작업/답글 삭제
+ * - 테이블이 아직 없거나(새 DB) 키가 이미 있으면 아무 것도 하지 않음
+ */
+@Configuration
+public class CommentUniqueKeyConfig {
+
+    static final String UNIQUE_KEY = "uk_comments_user_external";
+
+    private static final int DELETE_CHUNK = 1000;
+
+    @Bean
+    public CommentUniqueKeyMigration commentUniqueKeyMigration(DataSource dataSource) {
+        return new CommentUniqueKeyMigration(new JdbcTemplate(dataSource));
+    }
+
+    /**
+     * EntityManagerFactory(ddl-auto) 가 정리 작업 뒤에 만들어지도록 순서 지정
+     */
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor commentUniqueKeyMigrationDependency() {
+        return new EntityManagerFactoryDependsOnPostProcessor("commentUniqueKeyMigration");
+    }
+
+    public static class CommentUniqueKeyMigration implements InitializingBean {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        CommentUniqueKeyMigration(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @Override
+        public void afterPropertiesSet() {
+            if (!tableExists("comments") || uniqueKeyExists()) {
+                return;
+            }
+
+            List<Long> duplicateIds = jdbcTemplate.queryForList(
+                    "SELECT DISTINCT c.comment_id FROM comments c JOIN comments k "
+                            + "ON k.user_id = c.user_id AND k.external_comment_id = c.external_comment_id "
+                            + "AND k.comment_id < c.comment_id",
+                    Long.class);
+            for (int from = 0; from < duplicateIds.size(); from += DELETE_CHUNK) {
+                deleteComments(duplicateIds.subList(from, Math.min(from + DELETE_CHUNK, duplicateIds.size())));
+            }
+            if (!duplicateIds.isEmpty()) {
+                System.out.println("[DEBUG] 중복 저장된 댓글 " + duplicateIds.size() + "건 정리");
+            }
+
+            jdbcTemplate.execute("ALTER TABLE comments ADD CONSTRAINT " + UNIQUE_KEY
+                    + " UNIQUE (user_id, external_comment_id)");
+            System.out.println("[DEBUG] comments 유일 키 추가: " + UNIQUE_KEY);
+        }
+
+        private void deleteComments(List<Long> commentIds) {
+            String placeholders = String.join(", ", Collections.nCopies(commentIds.size(), "?"));
+            Object[] args = commentIds.toArray();
+            for (String table : List.of("analysis_results", "analysis_tasks", "comment_replies")) {
+                if (tableExists(table)) {
+                    jdbcTemplate.update("DELETE FROM " + table + " WHERE comment_id IN (" + placeholders + ")", args);
+                }
+            }
+            jdbcTemplate.update("DELETE FROM comments WHERE comment_id IN (" + placeholders + ")", args);
+        }
+
+        private boolean tableExists(String table) {
+            Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.tables "
+                    + "WHERE table_schema = DATABASE() AND table_name = ?", Integer.class, table);
+            return count != null && count > 0;
+        }
+
+        private boolean uniqueKeyExists() {
+            Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.statistics "
+                    + "WHERE table_schema = DATABASE() AND table_name = 'comments' AND index_name = ?",
+                    Integer.class, UNIQUE_KEY);
+            return count != null && count > 0;
+        }
+    }
+}
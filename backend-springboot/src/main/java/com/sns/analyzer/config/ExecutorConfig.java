@@ -0,0 +1,138 @@
+package com.sns.analyzer.config;
+
+import com.sns.analyzer.service.CommentService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import javax.sql.DataSource;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 작업 스레드 풀 설정
+ * - DB 를 쓰는 풀(analysis / pipeline / job / watch / 차단 단어 재검사 + 분석 작업 큐 워커)은 모두 Hikari 커넥션 풀 1개를 공유
+ * - AnalysisService 는 트랜잭션 안에서 AI 를 호출하므로 분석 중인 스레드는 커넥션을 계속 점유
+ * - 동시에 DB 를 쓰는 스레드 수 > 커넥션 수 이면 나머지는 커넥션을 기다림 (connection-timeout 초과 시 실패)
+ *   → 스레드 풀을 늘리면 spring.datasource.hikari.maximum-pool-size 도 함께 늘려야 함 (시작 시 확인)
+ */
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${comment.analyze-bulk.mode:" + CommentService.DEFAULT_ANALYZE_BULK_MODE + "}")
+    private String analyzeBulkMode;
+
+    @Value("${comment.analyze-bulk.pool-size:32}")
+    private int analysisPoolSize;
+
+    @Value("${comment.pipeline.pool-size:40}")
+    private int pipelinePoolSize;
+
+    @Value("${job.pool-size:4}")
+    private int jobPoolSize;
+
+    @Value("${watch.max-concurrent:2}")
+    private int watchPoolSize;
+
+    @Value("${analysis.queue.enabled:true}")
+    private boolean queueEnabled;
+
+    @Value("${analysis.queue.workers:4}")
+    private int queueWorkers;
+
+    /**
+     * 시작 시 DB 를 쓰는 스레드 수와 커넥션 풀 크기 비교 (초과하면 경고)
+     * analysisExecutor 는 parallel 모드에서만 사용
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkConnectionBudget(ApplicationReadyEvent event) {
+        DataSource dataSource = event.getApplicationContext().getBeanProvider(DataSource.class).getIfAvailable();
+        if (!(dataSource instanceof HikariDataSource hikari)) {
+            return;
+        }
+        int dbThreads = ("parallel".equalsIgnoreCase(analyzeBulkMode) ? analysisPoolSize : 0)
+                + pipelinePoolSize + jobPoolSize + watchPoolSize + 1 + (queueEnabled ? queueWorkers : 0);
+        int connections = hikari.getMaximumPoolSize();
+        if (dbThreads > connections) {
+            System.err.println("[ERROR] DB-using worker threads (" + dbThreads + ") exceed the connection pool ("
+                    + connections + "). Threads will wait for connections under load; raise "
+                    + "spring.datasource.hikari.maximum-pool-size or lower the pool sizes.");
+        } else {
+            System.out.println("[DEBUG] DB-using worker threads: " + dbThreads + " / connections: " + connections);
+        }
+    }
+
+    /**
+     * 댓글 병렬 분석용 스레드 풀 (parallel 모드)
+     * 요청별 동시 실행 수는 CommentService에서 따로 제한
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService analysisExecutor(@Value("${comment.analyze-bulk.pool-size:32}") int poolSize) {
+        return new ThreadPoolExecutor(poolSize, poolSize,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                namedDaemonThreads("analysis-worker"));
+    }
+
+    /**
+     * 비동기 작업(크롤링+분석 / 대량 분석 job) 실행용 스레드 풀
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService jobExecutor(@Value("${job.pool-size:4}") int poolSize) {
+        return new ThreadPoolExecutor(poolSize, poolSize,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                namedDaemonThreads("job-worker"));
+    }
+
+    /**
+     * 크롤링 파이프라인 단계(저장 / 분석 워커) 실행용 스레드 풀
+     * 파이프라인 1개당 저장 1 + 분석 워커 수 만큼 사용
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService pipelineExecutor(@Value("${comment.pipeline.pool-size:40}") int poolSize) {
+        return new ThreadPoolExecutor(poolSize, poolSize,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                namedDaemonThreads("pipeline-worker"));
+    }
+
+    /**
+     * 감시 목록 자동 재수집 실행용 스레드 풀 (전체 동시 재수집 수 = 풀 크기)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService watchExecutor(@Value("${watch.max-concurrent:2}") int poolSize) {
+        return new ThreadPoolExecutor(poolSize, poolSize,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                namedDaemonThreads("watch-crawler"));
+    }
+
+    /**
+     * 차단 단어 변경 후 저장된 댓글 재검사용 (한 번에 하나씩)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService blockedWordExecutor() {
+        return new ThreadPoolExecutor(1, 1,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                namedDaemonThreads("blocked-word-rescan"));
+    }
+
+    static ThreadFactory namedDaemonThreads(String prefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + "-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -1,19 +1,67 @@
 package com.sns.analyzer.config;
 
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 import java.time.Duration;
 
 @Configuration
 public class WebClientConfig {
 
+    /**
+     * 공용 RestTemplate (크롤링 스트림 등)
+     * read-timeout 은 응답 전체가 아닌 읽기 사이 대기 시간 (스트리밍 응답은 줄 단위로 도착)
+     * AI 배치 분석은 응답 시간 기반 타임아웃을 쓰는 별도 클라이언트 사용 (AIBatchClient)
+     */
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
+    public RestTemplate restTemplate(RestTemplateBuilder builder,
+            @Value("${ai.service.rest.connect-timeout-ms:5000}") long connectTimeoutMs,
+            @Value("${ai.service.rest.read-timeout-ms:120000}") long readTimeoutMs) {
         return builder
-                .setConnectTimeout(Duration.ofSeconds(300))
-                .setReadTimeout(Duration.ofSeconds(300))
+                .setConnectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .setReadTimeout(Duration.ofMillis(readTimeoutMs))
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * AI 서비스 전용 커넥션 풀 (Reactor Netty)
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider aiConnectionProvider(
+            @Value("${ai.service.reactive.max-connections:200}") int maxConnections,
+            @Value("${ai.service.reactive.pending-acquire-max:1000}") int pendingAcquireMax) {
+        return ConnectionProvider.builder("ai-service")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMax)
+                .pendingAcquireTimeout(Duration.ofSeconds(60))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+    }
+
+    /**
+     * AI 서비스 호출용 논블로킹 WebClient
+     */
+    @Bean
+    public WebClient aiWebClient(
+            WebClient.Builder builder,
+            ConnectionProvider aiConnectionProvider,
+            @Value("${ai.service.url:http://localhost:8000}") String aiServiceUrl,
+            @Value("${ai.service.reactive.connect-timeout-ms:5000}") int connectTimeoutMs,
+            @Value("${ai.service.reactive.response-timeout-seconds:120}") long responseTimeoutSeconds) {
+        HttpClient httpClient = HttpClient.create(aiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofSeconds(responseTimeoutSeconds));
+
+        return builder
+                .baseUrl(aiServiceUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
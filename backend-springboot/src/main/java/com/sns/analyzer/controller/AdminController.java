@@ -25,6 +25,16 @@ public class AdminController {
 
     private final AdminService adminService;
     private final UserService userService;
+    private final AIVerdictCache aiVerdictCache;
+    private final AICircuitBreaker aiCircuitBreaker;
+    private final AILatencyTracker aiLatencyTracker;
+    private final CommentPreFilter commentPreFilter;
+    private final AnalysisTaskQueue analysisTaskQueue;
+    private final WatchListService watchListService;
+    private final SharedCommentService sharedCommentService;
+    private final CrawlStreamReader crawlStreamReader;
+    private final BlockedWordService blockedWordService;
+    private final BlockedWordRescanService blockedWordRescanService;
 
     // ==================== #장소영~여기까지: AdminUserDto 추가 (User 엔티티 직접 반환으로 인한 500 방지) ====================
     static class AdminUserDto {
@@ -225,4 +235,155 @@ public class AdminController {
     public ResponseEntity<?> getRecentLogs(@RequestParam(defaultValue = "10") int limit) {
         return ResponseEntity.ok(adminService.getRecentAdminLogs(limit));
     }
+
+    /**
+     * AI 판정 캐시 통계 (hit/miss/eviction)
+     */
+    @GetMapping("/ai/cache")
+    public ResponseEntity<?> getAICacheStats() {
+        return ResponseEntity.ok(aiVerdictCache.getStats());
+    }
+
+    /**
+     * AI 판정 캐시 비우기 (모델 교체 시 사용)
+     */
+    @DeleteMapping("/ai/cache")
+    public ResponseEntity<?> clearAICache() {
+        aiVerdictCache.clear();
+        return ResponseEntity.ok(Map.of("message", "AI verdict cache cleared"));
+    }
+
+    /**
+     * AI 서킷 브레이커 / 벌크헤드 상태
+     */
+    @GetMapping("/ai/circuit")
+    public ResponseEntity<?> getAICircuitStats() {
+        return ResponseEntity.ok(aiCircuitBreaker.getStats());
+    }
+
+    /**
+     * AI 응답 시간 백분위 / 적응형 타임아웃 / 헤지 요청 통계
+     */
+    @GetMapping("/ai/latency")
+    public ResponseEntity<?> getAILatencyStats() {
+        return ResponseEntity.ok(aiLatencyTracker.getStats());
+    }
+
+    /**
+     * AI 사전 분류 통계 (로컬 처리 / AI 전달 건수)
+     */
+    @GetMapping("/ai/prefilter")
+    public ResponseEntity<?> getAIPreFilterStats() {
+        return ResponseEntity.ok(commentPreFilter.getStats());
+    }
+
+    /**
+     * 분석 작업 큐 상태 (상태별 작업 수)
+     */
+    @GetMapping("/analysis-queue")
+    public ResponseEntity<?> getAnalysisQueueStats() {
+        return ResponseEntity.ok(analysisTaskQueue.getStats());
+    }
+
+    /**
+     * 감시 목록 자동 재수집 스케줄러 상태
+     */
+    @GetMapping("/watch")
+    public ResponseEntity<?> getWatchStats() {
+        return ResponseEntity.ok(watchListService.getStats());
+    }
+
+    /**
+     * 공용 댓글 모델 판정 재사용 통계
+     */
+    @GetMapping("/shared-comments")
+    public ResponseEntity<?> getSharedCommentStats() {
+        return ResponseEntity.ok(sharedCommentService.getStats());
+    }
+
+    /**
+     * 크롤링 single-flight 공유/캐시 통계
+     */
+    @GetMapping("/crawl/coalescing")
+    public ResponseEntity<?> getCrawlCoalescingStats() {
+        return ResponseEntity.ok(crawlStreamReader.getStats());
+    }
+
+    /**
+     * 전역 차단 단어 목록 (모든 사용자에게 적용)
+     */
+    @GetMapping("/blocked-words")
+    public ResponseEntity<List<BlockedWord>> getGlobalBlockedWords() {
+        return ResponseEntity.ok(blockedWordService.getGlobalBlockedWords());
+    }
+
+    /**
+     * 전역 차단 단어 추가
+     */
+    @PostMapping("/blocked-words")
+    public ResponseEntity<?> addGlobalBlockedWord(@RequestBody Map<String, String> request) {
+        try {
+            String word = request.get("word");
+            if (word == null || word.trim().isEmpty()) {
+                return ResponseEntity.badRequest().body(Map.of("error", "단어를 입력해주세요."));
+            }
+            BlockedWord.WordCategory category = request.get("category") != null
+                    ? BlockedWord.WordCategory.valueOf(request.get("category")) : null;
+            BlockedWord.Severity severity = request.get("severity") != null
+                    ? BlockedWord.Severity.valueOf(request.get("severity")) : null;
+            return ResponseEntity.ok(blockedWordService.addGlobalBlockedWord(word, category, severity));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 전역 차단 단어 활성화/비활성화 토글
+     */
+    @PatchMapping("/blocked-words/{wordId}/toggle")
+    public ResponseEntity<?> toggleGlobalBlockedWord(@PathVariable Long wordId) {
+        try {
+            return ResponseEntity.ok(blockedWordService.toggleGlobalBlockedWord(wordId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 전역 차단 단어 삭제
+     */
+    @DeleteMapping("/blocked-words/{wordId}")
+    public ResponseEntity<?> deleteGlobalBlockedWord(@PathVariable Long wordId) {
+        try {
+            blockedWordService.deleteGlobalBlockedWord(wordId);
+            return ResponseEntity.ok(Map.of("message", "삭제되었습니다."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 전역 차단 단어 사전 다시 읽기 (DB 를 직접 수정한 경우)
+     */
+    @PostMapping("/blocked-words/reload")
+    public ResponseEntity<?> reloadGlobalBlockedWords() {
+        blockedWordService.reloadGlobalWords();
+        return ResponseEntity.ok(blockedWordService.getStats());
+    }
+
+    /**
+     * 차단 단어 사전 상태 (전역 단어 수 / 캐시된 사용자 매처)
+     */
+    @GetMapping("/blocked-words/stats")
+    public ResponseEntity<?> getBlockedWordStats() {
+        return ResponseEntity.ok(blockedWordService.getStats());
+    }
+
+    /**
+     * 저장된 댓글 차단 단어 매칭 재계산 상태
+     */
+    @GetMapping("/blocked-words/rescan")
+    public ResponseEntity<?> getBlockedWordRescanStats() {
+        return ResponseEntity.ok(blockedWordRescanService.getStats());
+    }
 }
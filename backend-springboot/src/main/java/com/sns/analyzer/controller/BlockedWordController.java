@@ -4,12 +4,19 @@ package com.sns.analyzer.controller;
 import com.sns.analyzer.entity.BlockedWord;
 import com.sns.analyzer.entity.User;
 import com.sns.analyzer.service.BlockedWordService;
+import com.sns.analyzer.service.BlockedWordTransferService;
 import com.sns.analyzer.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -19,6 +26,7 @@ import java.util.Map;
 public class BlockedWordController {
     
     private final BlockedWordService blockedWordService;
+    private final BlockedWordTransferService blockedWordTransferService;
     private final UserService userService;
     
     /**
@@ -133,6 +141,51 @@ public class BlockedWordController {
         }
     }
     
+    /**
+     * 차단 단어 일괄 가져오기 (요청 본문 = CSV 또는 JSON 파일 내용)
+     */
+    @PostMapping("/import")
+    public ResponseEntity<?> importBlockedWords(
+            Authentication authentication,
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletRequest request
+    ) {
+        try {
+            Long userId = getUserIdFromAuth(authentication);
+            return ResponseEntity.ok(blockedWordTransferService.importWords(userId, request.getInputStream(), format));
+            
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "파일을 읽을 수 없습니다: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 차단 단어 내보내기 (CSV 또는 JSON 파일로 다운로드)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<?> exportBlockedWords(
+            Authentication authentication,
+            @RequestParam(defaultValue = "csv") String format
+    ) {
+        try {
+            Long userId = getUserIdFromAuth(authentication);
+            String checked = BlockedWordTransferService.checkFormat(format);
+            MediaType contentType = BlockedWordTransferService.FORMAT_JSON.equals(checked)
+                    ? MediaType.APPLICATION_JSON
+                    : new MediaType("text", "csv", StandardCharsets.UTF_8);
+            StreamingResponseBody body = out -> blockedWordTransferService.exportWords(userId, checked, out);
+            return ResponseEntity.ok()
+                    .contentType(contentType)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"blocked-words." + checked + "\"")
+                    .body(body);
+            
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
     private Long getUserIdFromAuth(Authentication authentication) {
         String email = authentication.getName();
         User user = userService.findByEmail(email)
@@ -1,6 +1,8 @@
 package com.sns.analyzer.controller;
 
+import com.sns.analyzer.entity.AnalysisJob;
 import com.sns.analyzer.entity.Comment;
+import com.sns.analyzer.service.AnalysisJobService;
 import com.sns.analyzer.service.CommentService;
 import com.sns.analyzer.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -21,11 +24,13 @@ public class CommentController {
 
     private final CommentService commentService;
     private final UserService userService;
+    private final AnalysisJobService analysisJobService;
 
     @PostMapping("/crawl")
     public ResponseEntity<?> crawlAndAnalyze(
             Authentication authentication,
-            @RequestBody Map<String, String> request) {
+            @RequestBody Map<String, String> request,
+            @RequestParam(defaultValue = "false") boolean async) {
         try {
             Long userId = getUserId(authentication);
             String url = request.get("url");
@@ -36,6 +41,12 @@ public class CommentController {
                 return ResponseEntity.badRequest().body(Map.of("error", "URL is required"));
             }
 
+            // async=true: 작업 등록 후 jobId 즉시 반환 (진행률은 /api/jobs/{jobId})
+            if (async) {
+                AnalysisJob job = commentService.submitCrawlJob(url, userId, startDate, endDate);
+                return ResponseEntity.accepted().body(Map.of("jobId", job.getJobId(), "status", job.getStatus()));
+            }
+
             Map<String, Object> result = commentService.crawlAndAnalyze(url, userId, startDate, endDate);
             return ResponseEntity.ok(result);
 
@@ -48,10 +59,25 @@ public class CommentController {
     @PostMapping("/analyze-batch")
     public ResponseEntity<?> analyzeBulk(
             Authentication authentication,
-            @RequestBody List<Long> commentIds) {
+            @RequestBody List<Long> commentIds,
+            @RequestParam(required = false) Integer concurrency,
+            @RequestParam(defaultValue = "false") boolean async) {
         try {
             Long userId = getUserId(authentication);
-            Map<String, Object> result = commentService.analyzeBulk(userId, commentIds);
+
+            if (async) {
+                AnalysisJob job = analysisJobService.submit(userId, AnalysisJob.JobType.ANALYZE_BATCH, null,
+                        progress -> {
+                            // 결과 목록은 크므로 작업 요약에는 건수만 저장
+                            Map<String, Object> summary = new LinkedHashMap<>(
+                                    commentService.analyzeBulk(userId, commentIds, concurrency, progress));
+                            summary.remove("results");
+                            return summary;
+                        });
+                return ResponseEntity.accepted().body(Map.of("jobId", job.getJobId(), "status", job.getStatus()));
+            }
+
+            Map<String, Object> result = commentService.analyzeBulk(userId, commentIds, concurrency);
             return ResponseEntity.ok(result);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -65,6 +91,7 @@ public class CommentController {
             @RequestParam(required = false) String startDate,
             @RequestParam(required = false) String endDate,
             @RequestParam(required = false) String status,
+            @RequestParam(required = false) Boolean containsBlockedWord,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         try {
@@ -81,7 +108,8 @@ public class CommentController {
 
             Pageable pageable = PageRequest.of(page, size, Sort.by("commentedAt").descending());
             return ResponseEntity
-                    .ok(commentService.getComments(userId, url, startDate, endDate, isMalicious, pageable));
+                    .ok(commentService.getComments(userId, url, startDate, endDate, isMalicious,
+                            containsBlockedWord, pageable));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -100,8 +128,9 @@ public class CommentController {
     @PostMapping("/delete-batch")
     public ResponseEntity<?> deleteComments(@RequestBody List<Long> commentIds) {
         try {
-            commentService.deleteComments(commentIds);
-            return ResponseEntity.ok(Map.of("message", "Deleted " + commentIds.size() + " comments successfully"));
+            int deleted = commentService.deleteComments(commentIds);
+            return ResponseEntity.ok(Map.of("message", "Deleted " + deleted + " comments successfully",
+                    "deletedCount", deleted));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -112,8 +141,8 @@ public class CommentController {
             @RequestParam(required = false) String url) {
         try {
             Long userId = getUserId(authentication);
-            commentService.deleteAllComments(userId, url);
-            return ResponseEntity.ok(Map.of("message", "Deleted all comments successfully"));
+            int deleted = commentService.deleteAllComments(userId, url);
+            return ResponseEntity.ok(Map.of("message", "Deleted all comments successfully", "deletedCount", deleted));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -0,0 +1,61 @@
+package com.sns.analyzer.controller;
+
+import com.sns.analyzer.entity.AnalysisJob;
+import com.sns.analyzer.service.AnalysisJobService;
+import com.sns.analyzer.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+public class JobController {
+
+    private final AnalysisJobService analysisJobService;
+    private final UserService userService;
+
+    /**
+     * 최근 작업 목록
+     */
+    @GetMapping
+    public ResponseEntity<List<AnalysisJob>> getJobs(Authentication authentication) {
+        Long userId = getUserId(authentication);
+        return ResponseEntity.ok(analysisJobService.getRecentJobs(userId));
+    }
+
+    /**
+     * 작업 상태 및 진행률 조회
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<?> getJob(Authentication authentication, @PathVariable Long jobId) {
+        try {
+            Long userId = getUserId(authentication);
+            return ResponseEntity.ok(analysisJobService.getJob(jobId, userId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 작업 진행률 스트림 (SSE: progress / complete 이벤트)
+     */
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamJob(Authentication authentication, @PathVariable Long jobId) {
+        Long userId = getUserId(authentication);
+        return analysisJobService.subscribe(jobId, userId);
+    }
+
+    private Long getUserId(Authentication authentication) {
+        String email = authentication.getName();
+        com.sns.analyzer.entity.User user = userService.findByEmail(email)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        return user.getUserId();
+    }
+}
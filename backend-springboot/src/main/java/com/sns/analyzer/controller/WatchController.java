@@ -0,0 +1,78 @@
+package com.sns.analyzer.controller;
+
+import com.sns.analyzer.entity.WatchedContent;
+import com.sns.analyzer.service.UserService;
+import com.sns.analyzer.service.WatchListService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/watch")
+@RequiredArgsConstructor
+public class WatchController {
+
+    private final WatchListService watchListService;
+    private final UserService userService;
+
+    /**
+     * 감시 목록 조회
+     */
+    @GetMapping
+    public ResponseEntity<List<WatchedContent>> getWatches(Authentication authentication) {
+        Long userId = getUserId(authentication);
+        return ResponseEntity.ok(watchListService.getWatches(userId));
+    }
+
+    /**
+     * 감시 대상 등록 (주기적으로 자동 재수집)
+     */
+    @PostMapping
+    public ResponseEntity<?> addWatch(Authentication authentication, @RequestBody Map<String, String> request) {
+        try {
+            Long userId = getUserId(authentication);
+            return ResponseEntity.ok(watchListService.addWatch(userId, request.get("url")));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 감시 활성/비활성
+     */
+    @PutMapping("/{watchId}/enabled")
+    public ResponseEntity<?> setEnabled(Authentication authentication, @PathVariable Long watchId,
+            @RequestParam boolean value) {
+        try {
+            Long userId = getUserId(authentication);
+            return ResponseEntity.ok(watchListService.setEnabled(watchId, userId, value));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 감시 대상 삭제 (수집된 댓글은 유지)
+     */
+    @DeleteMapping("/{watchId}")
+    public ResponseEntity<?> deleteWatch(Authentication authentication, @PathVariable Long watchId) {
+        try {
+            Long userId = getUserId(authentication);
+            watchListService.deleteWatch(watchId, userId);
+            return ResponseEntity.ok(Map.of("message", "Watch deleted successfully"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    private Long getUserId(Authentication authentication) {
+        String email = authentication.getName();
+        com.sns.analyzer.entity.User user = userService.findByEmail(email)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        return user.getUserId();
+    }
+}
@@ -0,0 +1,20 @@
+// ==================== CrawlDTO.java ====================
+package com.sns.analyzer.dto;
+
+import lombok.*;
+
+public class CrawlDTO {
+
+    /**
+     * 크롤러가 반환한 댓글 1건 (/crawl/youtube)
+     */
+    @Getter @AllArgsConstructor @ToString
+    public static class CrawledComment {
+        private final String externalId;
+        private final String author;
+        private final String text;
+        private final String publishDate;
+        private final String authorId;
+        private final Integer likeCount;
+    }
+}
@@ -0,0 +1,99 @@
+// ==================== AnalysisJob.java ====================
+package com.sns.analyzer.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 작업 (크롤링+분석 / 대량 분석) 상태 및 진행률
+ */
+@Entity
+@Table(name = "analysis_jobs", indexes = {
+        @Index(name = "idx_analysis_jobs_user", columnList = "userId, createdAt"),
+        @Index(name = "idx_analysis_jobs_heartbeat", columnList = "status, heartbeatAt")
+})
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class AnalysisJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long jobId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobType jobType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private JobStatus status = JobStatus.PENDING;
+
+    @Column(columnDefinition = "TEXT")
+    private String contentUrl;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer totalCount = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer crawledCount = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer savedCount = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer analyzedCount = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer failedCount = 0;
+
+    // 완료 시 결과 요약 (JSON)
+    @Column(columnDefinition = "TEXT")
+    private String resultSummary;
+
+    @Column(columnDefinition = "TEXT")
+    private String errorMessage;
+
+    // 재시작 시 작업을 이어서 실행하기 위한 요청 파라미터 (JSON)
+    @Column(columnDefinition = "TEXT")
+    private String params;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer resumeCount = 0;
+
+    // 작업을 실행 중인 인스턴스 (AnalysisJobService.instanceId)
+    @Column(length = 100)
+    private String owner;
+
+    // 실행 인스턴스가 주기적으로 갱신, 만료되면 다른 인스턴스가 재개/실패 처리
+    private LocalDateTime heartbeatAt;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    public boolean isFinished() {
+        return status == JobStatus.COMPLETED || status == JobStatus.FAILED;
+    }
+
+    public enum JobType {
+        CRAWL, ANALYZE_BATCH
+    }
+
+    public enum JobStatus {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+}
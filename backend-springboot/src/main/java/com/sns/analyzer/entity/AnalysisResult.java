@@ -7,7 +7,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "analysis_results")
+@Table(name = "analysis_results", uniqueConstraints = {
+        // 댓글 1건당 분석 결과 1행 (재분석은 같은 행 갱신)
+        @UniqueConstraint(name = "uk_analysis_results_comment", columnNames = "commentId")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,65 @@
+// ==================== AnalysisTask.java ====================
+package com.sns.analyzer.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 분석 작업 큐 (DB 영속)
+ * - 수집 시 PENDING 으로 등록, 워커가 LEASED 로 임대 후 처리
+ * - 임대 만료(lease_expires_at) 된 작업은 다른 워커가 다시 가져감 (프로세스 중단 복구)
+ */
+@Entity
+@Table(name = "analysis_tasks", indexes = {
+        @Index(name = "idx_analysis_tasks_claim", columnList = "status, nextAttemptAt"),
+        @Index(name = "idx_analysis_tasks_comment", columnList = "commentId")
+})
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class AnalysisTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long taskId;
+
+    @Column(nullable = false)
+    private Long commentId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private TaskStatus status = TaskStatus.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 100)
+    private String leaseOwner;
+
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    private LocalDateTime updatedAt;
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public enum TaskStatus {
+        PENDING, LEASED, FAILED
+    }
+}
@@ -7,7 +7,13 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", uniqueConstraints = {
+        // 사용자별 외부 댓글 ID 는 한 번만 저장 (동시 수집 중복 방지, 배치 INSERT 는 ON DUPLICATE KEY 로 건너뜀, 기존 DB 는 CommentUniqueKeyConfig 가 중복 정리 후 추가)
+        @UniqueConstraint(name = "uk_comments_user_external", columnNames = {"userId", "externalCommentId"})
+}, indexes = {
+        @Index(name = "idx_comments_shared", columnList = "sharedCommentId"),
+        @Index(name = "idx_comments_user_blocked", columnList = "userId, containsBlockedWord, commentedAt")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -34,6 +40,9 @@ public class Comment {
     @Column(nullable = false, length = 200)
     private String externalCommentId;
 
+    // 공용 원본 댓글 (shared_comments, 모델 판정 공유)
+    private Long sharedCommentId;
+
     @Column(nullable = false, length = 200)
     private String authorName;
 
@@ -76,17 +85,23 @@ public class Comment {
     @Builder.Default
     private Boolean isBlacklisted = false;
 
+    // AI 서비스 장애로 규칙 기반 대체 판정을 받은 댓글 (복구 후 재분석 대상)
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean needsReanalysis = false;
+
     @Column(nullable = false)
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now().withNano(0);
 
     private LocalDateTime updatedAt;
 
-    // ========== 차단 단어 관련 임시 필드 (DB에 저장 안 됨) ==========
-    @Transient
+    // 차단 단어 포함 여부 (수집/분석 시 저장, 차단 단어 목록이 바뀌면 BlockedWordRescanService 가 다시 계산)
+    @Column(nullable = false)
+    @Builder.Default
     private Boolean containsBlockedWord = false;
 
-    @Transient
+    @Column(length = 100)
     private String matchedBlockedWord;
 
     @PreUpdate
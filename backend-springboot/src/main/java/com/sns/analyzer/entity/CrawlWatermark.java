@@ -0,0 +1,43 @@
+// ==================== CrawlWatermark.java ====================
+package com.sns.analyzer.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 + 콘텐츠 URL 별 증분 수집 기준점
+ * - recentExternalIds: 마지막 수집에서 가장 최신이었던 댓글 ID들 (최신순, 쉼표 구분)
+ *   다음 수집은 이 ID 구간에 도달하면 중단 → 새 댓글만 저장/분석
+ * - coveredFrom: 지금까지 수집한 기간의 시작 (더 이전 기간을 요청하면 전체 수집)
+ */
+@Entity
+@Table(name = "crawl_watermarks", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_crawl_watermarks_user_url", columnNames = { "userId", "contentUrl" })
+})
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class CrawlWatermark {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long watermarkId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 500)
+    private String contentUrl;
+
+    @Column(length = 1000)
+    private String recentExternalIds;
+
+    private LocalDateTime newestCommentedAt;
+
+    private LocalDateTime coveredFrom;
+
+    private LocalDateTime lastCrawledAt;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer lastNewCount = 0;
+}
@@ -0,0 +1,63 @@
+// ==================== SharedComment.java ====================
+package com.sns.analyzer.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 플랫폼 공용 원본 댓글 + 모델 판정 (platform, externalCommentId 당 1행)
+ * - 같은 영상을 여러 사용자가 수집해도 원본과 AI 모델 점수는 한 번만 저장/계산
+ * - 사용자별 Comment 행은 sharedCommentId 로 참조하고, 차단 단어/블랙리스트 판정만 사용자별로 적용
+ */
+@Entity
+@Table(name = "shared_comments", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_shared_comments_platform_external", columnNames = { "platform",
+                "externalCommentId" })
+})
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class SharedComment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long sharedCommentId;
+
+    @Column(nullable = false, length = 50)
+    private String platform;
+
+    @Column(nullable = false, length = 200)
+    private String externalCommentId;
+
+    @Column(columnDefinition = "TEXT")
+    private String contentUrl;
+
+    @Column(length = 200)
+    private String authorName;
+
+    @Column(length = 200)
+    private String authorIdentifier;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    private LocalDateTime commentedAt;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer likeCount = 0;
+
+    // 사용자 차단 단어 없이 받은 AI 판정 (JSON, 규칙 기반 대체 판정은 저장하지 않음)
+    @Column(columnDefinition = "TEXT")
+    private String modelVerdict;
+
+    @Column(length = 50)
+    private String modelVersion;
+
+    private LocalDateTime scoredAt;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private LocalDateTime firstSeenAt = LocalDateTime.now();
+
+    private LocalDateTime lastSeenAt;
+}
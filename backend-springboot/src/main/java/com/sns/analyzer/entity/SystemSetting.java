@@ -0,0 +1,25 @@
+// ==================== SystemSetting.java ====================
+package com.sns.analyzer.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 인스턴스 간에 공유하는 시스템 상태 값 (키 → 값)
+ * - 예: 저장된 댓글의 차단 단어 매칭 결과를 계산한 정규화 버전 (바뀌면 시작 시 전체 재계산)
+ */
+@Entity
+@Table(name = "system_settings")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class SystemSetting {
+
+    @Id
+    @Column(length = 100)
+    private String settingKey;
+
+    @Column(length = 500)
+    private String settingValue;
+
+    private LocalDateTime updatedAt;
+}
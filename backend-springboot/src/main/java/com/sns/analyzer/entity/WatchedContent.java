@@ -0,0 +1,64 @@
+// ==================== WatchedContent.java ====================
+package com.sns.analyzer.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 자동 재수집 대상 (사용자 + 콘텐츠 URL)
+ * - 새 댓글이 많이 달리면 수집 주기를 줄이고, 조용하면 늘림
+ */
+@Entity
+@Table(name = "watch_list", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_watch_list_user_url", columnNames = { "userId", "contentUrl" })
+}, indexes = {
+        @Index(name = "idx_watch_list_due", columnList = "enabled, nextCrawlAt")
+})
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class WatchedContent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long watchId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 500)
+    private String contentUrl;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean enabled = true;
+
+    // 현재 수집 주기 (분)
+    @Column(nullable = false)
+    private Integer intervalMinutes;
+
+    @Column(nullable = false)
+    private LocalDateTime nextCrawlAt;
+
+    private LocalDateTime lastCrawledAt;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer lastNewCount = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer consecutiveFailures = 0;
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    // 수집 중인 인스턴스 (WatchListService 가 조건부 UPDATE 로 임대, 만료되면 다른 인스턴스가 다시 가져감)
+    @Column(length = 100)
+    private String leaseOwner;
+
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
@@ -0,0 +1,59 @@
+// ==================== AnalysisJobRepository.java ====================
+package com.sns.analyzer.repository;
+
+import com.sns.analyzer.entity.AnalysisJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AnalysisJobRepository extends JpaRepository<AnalysisJob, Long> {
+
+    List<AnalysisJob> findTop20ByUserIdOrderByCreatedAtDesc(Long userId);
+
+    // 하트비트가 만료된 미완료 작업 (실행하던 인스턴스가 종료됨)
+    @Query("SELECT j FROM AnalysisJob j WHERE j.status IN (com.sns.analyzer.entity.AnalysisJob.JobStatus.PENDING, "
+            + "com.sns.analyzer.entity.AnalysisJob.JobStatus.RUNNING) "
+            + "AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :cutoff)")
+    List<AnalysisJob> findExpiredJobs(LocalDateTime cutoff);
+
+    // 실행 중인 작업 하트비트 갱신
+    @Modifying
+    @Transactional
+    @Query("UPDATE AnalysisJob j SET j.heartbeatAt = :now WHERE j.owner = :owner AND j.jobId IN :jobIds")
+    int touchHeartbeat(String owner, List<Long> jobIds, LocalDateTime now);
+
+    // 하트비트가 만료된 작업을 이 인스턴스가 가져감 (조건부 UPDATE → 여러 인스턴스 중 한 곳만 성공)
+    @Modifying
+    @Transactional
+    @Query("UPDATE AnalysisJob j SET j.owner = :owner, j.heartbeatAt = :now WHERE j.jobId = :jobId "
+            + "AND j.status IN (com.sns.analyzer.entity.AnalysisJob.JobStatus.PENDING, "
+            + "com.sns.analyzer.entity.AnalysisJob.JobStatus.RUNNING) "
+            + "AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :cutoff)")
+    int claimExpiredJob(Long jobId, String owner, LocalDateTime now, LocalDateTime cutoff);
+
+    // 진행률만 갱신 (엔티티 로딩 없이)
+    @Modifying
+    @Transactional
+    @Query("UPDATE AnalysisJob j SET j.totalCount = :total, j.crawledCount = :crawled, j.savedCount = :saved, "
+            + "j.analyzedCount = :analyzed, j.failedCount = :failed WHERE j.jobId = :jobId")
+    int updateProgress(Long jobId, int total, int crawled, int saved, int analyzed, int failed);
+
+    // 하트비트가 만료된 작업 중 재개할 수 없는 작업 실패 처리
+    // (재개 가능 = 재개 함수가 있는 유형 + 요청 파라미터 있음 + 재개 횟수 남음, 이런 작업은 claimExpiredJob 으로 재개)
+    @Modifying
+    @Transactional
+    @Query("UPDATE AnalysisJob j SET j.status = com.sns.analyzer.entity.AnalysisJob.JobStatus.FAILED, "
+            + "j.errorMessage = :reason, j.finishedAt = :now "
+            + "WHERE j.status IN (com.sns.analyzer.entity.AnalysisJob.JobStatus.PENDING, "
+            + "com.sns.analyzer.entity.AnalysisJob.JobStatus.RUNNING) "
+            + "AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :cutoff) "
+            + "AND (j.jobType NOT IN :resumableTypes OR j.params IS NULL OR j.resumeCount >= :maxResumes)")
+    int failExpiredJobs(String reason, LocalDateTime now, LocalDateTime cutoff,
+            List<AnalysisJob.JobType> resumableTypes, int maxResumes);
+}
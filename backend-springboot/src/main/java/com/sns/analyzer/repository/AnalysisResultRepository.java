@@ -22,7 +22,11 @@ public interface AnalysisResultRepository extends JpaRepository<AnalysisResult,
 
     Page<AnalysisResult> findByUserId(Long userId, Pageable pageable);
 
-    void deleteByUserId(Long userId); // 전체 삭제용
+    // 전체 삭제용 (엔티티 로딩 없이 DELETE 1회)
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AnalysisResult a WHERE a.userId = :userId")
+    int deleteByUserId(Long userId);
 
     List<AnalysisResult> findByUserIdAndAnalyzedAtAfter(Long userId, LocalDateTime after);
 
@@ -0,0 +1,65 @@
+// ==================== AnalysisTaskRepository.java ====================
+package com.sns.analyzer.repository;
+
+import com.sns.analyzer.entity.AnalysisTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AnalysisTaskRepository extends JpaRepository<AnalysisTask, Long> {
+
+    // 처리 가능한 작업 임대 (대기 중이면서 재시도 시각이 지났거나, 임대가 만료된 작업)
+    // 다른 워커가 잠근 행은 건너뜀 → 워커끼리 같은 작업을 가져가지 않음
+    @Query(value = "SELECT * FROM analysis_tasks "
+            + "WHERE (status = 'PENDING' AND next_attempt_at <= :now) "
+            + "OR (status = 'LEASED' AND lease_expires_at < :now) "
+            + "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<AnalysisTask> findClaimable(LocalDateTime now, int limit);
+
+    // 댓글 1건의 대기 중인 작업 임대 (워커가 이미 임대했으면 0 → 조건부 UPDATE 라 한쪽만 성공)
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE analysis_tasks SET status = 'LEASED', lease_owner = :owner, "
+            + "lease_expires_at = :leaseExpiresAt, attempts = attempts + 1, updated_at = :now "
+            + "WHERE comment_id = :commentId AND status = 'PENDING'", nativeQuery = true)
+    int leasePending(Long commentId, String owner, LocalDateTime leaseExpiresAt, LocalDateTime now);
+
+    // 임대한 작업 완료 (삭제)
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM analysis_tasks WHERE comment_id = :commentId AND lease_owner = :owner",
+            nativeQuery = true)
+    int deleteLeased(Long commentId, String owner);
+
+    // 임대한 작업 반납 (워커가 nextAttemptAt 이후 다시 처리)
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE analysis_tasks SET status = 'PENDING', lease_owner = NULL, lease_expires_at = NULL, "
+            + "next_attempt_at = :nextAttemptAt, last_error = :error, updated_at = :now "
+            + "WHERE comment_id = :commentId AND lease_owner = :owner", nativeQuery = true)
+    int releaseLeased(Long commentId, String owner, LocalDateTime nextAttemptAt, String error, LocalDateTime now);
+
+    // 워커가 임대한 작업 완료 (임대가 만료돼 다른 워커가 다시 임대했으면 0)
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM analysis_tasks WHERE task_id = :taskId AND lease_owner = :owner",
+            nativeQuery = true)
+    int deleteClaimed(Long taskId, String owner);
+
+    // 워커가 임대한 작업 재시도 예약 또는 FAILED 처리 (임대를 잃었으면 0, 삭제된 행은 되살리지 않음)
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE analysis_tasks SET status = :status, lease_owner = NULL, lease_expires_at = NULL, "
+            + "next_attempt_at = :nextAttemptAt, last_error = :error, updated_at = :now "
+            + "WHERE task_id = :taskId AND lease_owner = :owner", nativeQuery = true)
+    int finishClaimed(Long taskId, String owner, String status, LocalDateTime nextAttemptAt, String error,
+            LocalDateTime now);
+
+    long countByStatus(AnalysisTask.TaskStatus status);
+}
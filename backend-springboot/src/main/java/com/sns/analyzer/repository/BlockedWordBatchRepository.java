@@ -0,0 +1,51 @@
+// ==================== BlockedWordBatchRepository.java ====================
+package com.sns.analyzer.repository;
+
+import com.sns.analyzer.entity.BlockedWord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 차단 단어 일괄 등록용 JDBC 배치 저장소
+ * - BlockedWord 는 IDENTITY 키라 Hibernate 가 INSERT 를 배치로 묶지 못함 → JdbcTemplate.batchUpdate
+ * - 호출자의 트랜잭션에 참여 (중복 제거는 호출자가 미리 처리)
+ */
+@Repository
+@RequiredArgsConstructor
+public class BlockedWordBatchRepository {
+
+    private static final String INSERT_WORD = "INSERT INTO blocked_words ("
+            + "user_id, word, category, severity, language, is_active, created_at, updated_at"
+            + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 차단 단어 일괄 INSERT (batchSize 단위로 나눠 전송)
+     */
+    public void insertBlockedWords(List<BlockedWord> words, int batchSize) {
+        if (words.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_WORD, words, Math.max(1, batchSize), (ps, w) -> {
+            ps.setObject(1, w.getUserId(), Types.BIGINT);
+            ps.setString(2, w.getWord());
+            ps.setString(3, w.getCategory().name());
+            ps.setString(4, w.getSeverity().name());
+            ps.setString(5, w.getLanguage());
+            ps.setBoolean(6, w.getIsActive());
+            ps.setTimestamp(7, toTimestamp(w.getCreatedAt()));
+            ps.setTimestamp(8, toTimestamp(w.getUpdatedAt()));
+        });
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime time) {
+        return time != null ? Timestamp.valueOf(time) : null;
+    }
+}
@@ -23,4 +23,10 @@ public interface BlockedWordRepository extends JpaRepository<BlockedWord, Long>
     
     // 전역 차단 단어 (userId가 null인 경우)
     List<BlockedWord> findByUserIdIsNullAndIsActive(Boolean isActive);
+    
+    // 전역 차단 단어 전체 (비활성 포함)
+    List<BlockedWord> findByUserIdIsNull();
+    
+    // 전역 차단 단어 중복 체크
+    Boolean existsByUserIdIsNullAndWord(String word);
 }
\ No newline at end of file
@@ -0,0 +1,288 @@
+// ==================== CommentBatchRepository.java ====================
+package com.sns.analyzer.repository;
+
+import com.sns.analyzer.entity.AnalysisTask;
+import com.sns.analyzer.entity.Comment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 수집/삭제용 JDBC 배치 저장소
+ * - Comment / AnalysisTask 는 IDENTITY 키라 Hibernate 가 INSERT 를 배치로 묶지 못함
+ * - JdbcTemplate.batchUpdate 로 chunk 를 한 번에 전송하고, 생성된 ID 는 외부 댓글 ID 로 한 번에 조회
+ * - 공용 원본 댓글(shared_comments)은 UPSERT 로 한 번만 저장하고 각 사용자 댓글이 참조
+ * - 대량 삭제도 엔티티 로딩 없이 ID chunk 단위 DELETE ... IN 으로 처리
+ * - 차단 단어 재검사는 필요한 컬럼만 chunk 단위로 읽고 바뀐 행만 배치 UPDATE
+ * - 호출자의 트랜잭션(JpaTransactionManager 가 같은 커넥션 공유)에 참여
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentBatchRepository {
+
+    // (user_id, external_comment_id) 유일 제약 - 동시에 수집된 같은 댓글은 건너뜀
+    // INSERT IGNORE 는 길이 초과/NULL 등 다른 오류까지 경고로 바꿔 저장하므로 중복 키만 무시
+    private static final String INSERT_COMMENT = "INSERT INTO comments ("
+            + "user_id, post_id, platform, content_url, external_comment_id, shared_comment_id, author_name, "
+            + "author_identifier, content, commented_at, like_count, reply_count, is_analyzed, is_malicious, "
+            + "is_hidden, is_deleted, is_blacklisted, needs_reanalysis, contains_blocked_word, matched_blocked_word, "
+            + "created_at, updated_at"
+            + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE comment_id = comment_id";
+
+    // 이미 있는 공용 댓글은 최신 내용/좋아요 수/확인 시각 갱신
+    // 내용이 바뀌었으면(수정된 댓글) 이전 내용으로 받은 모델 판정을 지움 (SET 은 왼쪽부터 적용되므로 content 는 판정 뒤에)
+    private static final String UPSERT_SHARED = "INSERT INTO shared_comments ("
+            + "platform, external_comment_id, content_url, author_name, author_identifier, content, commented_at, "
+            + "like_count, first_seen_at, last_seen_at"
+            + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE "
+            + "model_verdict = IF(content <=> VALUES(content), model_verdict, NULL), "
+            + "model_version = IF(content <=> VALUES(content), model_version, NULL), "
+            + "scored_at = IF(content <=> VALUES(content), scored_at, NULL), "
+            + "content = VALUES(content), like_count = VALUES(like_count), last_seen_at = VALUES(last_seen_at)";
+
+    private static final String INSERT_TASK = "INSERT INTO analysis_tasks ("
+            + "comment_id, user_id, status, attempts, next_attempt_at, created_at"
+            + ") VALUES (?, ?, ?, 0, ?, ?)";
+
+    private static final String UPDATE_BLOCKED_MATCH = "UPDATE comments "
+            + "SET contains_blocked_word = ?, matched_blocked_word = ? WHERE comment_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 댓글 + 분석 결과 + 분석 작업 일괄 삭제 (호출자가 chunk 크기로 나눠서 호출)
+     *
+     * @return 삭제된 댓글 수
+     */
+    public int deleteCommentsByIds(List<Long> commentIds) {
+        if (commentIds.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(commentIds.size(), "?"));
+        Object[] args = commentIds.toArray();
+        jdbcTemplate.update("DELETE FROM analysis_results WHERE comment_id IN (" + placeholders + ")", args);
+        jdbcTemplate.update("DELETE FROM analysis_tasks WHERE comment_id IN (" + placeholders + ")", args);
+        return jdbcTemplate.update("DELETE FROM comments WHERE comment_id IN (" + placeholders + ")", args);
+    }
+
+    /**
+     * 사용자(+URL) 댓글 ID 를 오름차순으로 limit 건 조회 (afterId 이후, 범위 삭제용)
+     */
+    public List<Long> findCommentIdChunk(Long userId, String url, long afterId, int limit) {
+        if (url != null) {
+            return jdbcTemplate.queryForList("SELECT comment_id FROM comments WHERE user_id = ? AND content_url = ? "
+                    + "AND comment_id > ? ORDER BY comment_id LIMIT ?", Long.class, userId, url, afterId, limit);
+        }
+        return jdbcTemplate.queryForList("SELECT comment_id FROM comments WHERE user_id = ? "
+                + "AND comment_id > ? ORDER BY comment_id LIMIT ?", Long.class, userId, afterId, limit);
+    }
+
+    /**
+     * 댓글 없이 남은 사용자 분석 결과 정리 (limit 건씩)
+     *
+     * @return 삭제된 행 수
+     */
+    public int deleteAnalysisResultsByUser(Long userId, int limit) {
+        return jdbcTemplate.update("DELETE FROM analysis_results WHERE user_id = ? LIMIT ?", userId, limit);
+    }
+
+    /**
+     * 차단 단어 재검사용 댓글 chunk (comment_id 오름차순, afterId 이후, userId 가 null 이면 전체 사용자)
+     * 내용과 현재 저장된 매칭 결과만 읽음
+     */
+    public List<Comment> findBlockedWordChunk(Long userId, long afterId, int limit) {
+        RowMapper<Comment> mapper = (rs, rowNum) -> Comment.builder()
+                .commentId(rs.getLong("comment_id"))
+                .userId(rs.getLong("user_id"))
+                .content(rs.getString("content"))
+                .containsBlockedWord(rs.getBoolean("contains_blocked_word"))
+                .matchedBlockedWord(rs.getString("matched_blocked_word"))
+                .build();
+        String columns = "SELECT comment_id, user_id, content, contains_blocked_word, matched_blocked_word "
+                + "FROM comments WHERE ";
+        if (userId != null) {
+            return jdbcTemplate.query(columns + "user_id = ? AND comment_id > ? ORDER BY comment_id LIMIT ?",
+                    mapper, userId, afterId, limit);
+        }
+        return jdbcTemplate.query(columns + "comment_id > ? ORDER BY comment_id LIMIT ?", mapper, afterId, limit);
+    }
+
+    /**
+     * 차단 단어 매칭 결과 일괄 갱신
+     */
+    public void updateBlockedWordMatches(List<Comment> comments) {
+        if (comments.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_BLOCKED_MATCH, comments, comments.size(), (ps, c) -> {
+            ps.setBoolean(1, c.getContainsBlockedWord());
+            ps.setString(2, c.getMatchedBlockedWord());
+            ps.setLong(3, c.getCommentId());
+        });
+    }
+
+    /**
+     * 댓글 일괄 INSERT 후 생성된 comment_id 를 각 객체에 설정
+     * - 호출자가 같은 트랜잭션에서 기존 외부 ID 를 미리 조회해 중복 제거
+     * - 그 사이 다른 트랜잭션이 같은 댓글을 커밋했으면 ON DUPLICATE KEY 로 건너뛰고, 그 행은 이 트랜잭션의
+     *   스냅샷(REPEATABLE READ)에 보이지 않으므로 ID 조회에서도 빠짐 → 반환 목록에서 제외
+     * - 유일 키는 CommentUniqueKeyConfig 가 시작 시 보장
+     *
+     * @return 실제로 저장된 댓글
+     */
+    public List<Comment> insertComments(Long userId, List<Comment> comments) {
+        if (comments.isEmpty()) {
+            return List.of();
+        }
+        jdbcTemplate.batchUpdate(INSERT_COMMENT, comments, comments.size(), (ps, c) -> {
+            ps.setLong(1, c.getUserId());
+            ps.setObject(2, c.getPostId(), Types.BIGINT);
+            ps.setString(3, c.getPlatform());
+            ps.setString(4, c.getContentUrl());
+            ps.setString(5, c.getExternalCommentId());
+            ps.setObject(6, c.getSharedCommentId(), Types.BIGINT);
+            ps.setString(7, c.getAuthorName());
+            ps.setString(8, c.getAuthorIdentifier());
+            ps.setString(9, c.getContent());
+            ps.setTimestamp(10, toTimestamp(c.getCommentedAt()));
+            ps.setInt(11, c.getLikeCount());
+            ps.setInt(12, c.getReplyCount());
+            ps.setBoolean(13, c.getIsAnalyzed());
+            ps.setBoolean(14, c.getIsMalicious());
+            ps.setBoolean(15, c.getIsHidden());
+            ps.setBoolean(16, c.getIsDeleted());
+            ps.setBoolean(17, c.getIsBlacklisted());
+            ps.setBoolean(18, c.getNeedsReanalysis());
+            ps.setBoolean(19, c.getContainsBlockedWord());
+            ps.setString(20, c.getMatchedBlockedWord());
+            ps.setTimestamp(21, toTimestamp(c.getCreatedAt()));
+            ps.setTimestamp(22, toTimestamp(c.getUpdatedAt()));
+        });
+
+        Map<String, Long> ids = findIdsByExternalIds(userId, comments.stream()
+                .map(Comment::getExternalCommentId)
+                .toList());
+        List<Comment> inserted = new ArrayList<>(comments.size());
+        for (Comment c : comments) {
+            c.setCommentId(ids.get(c.getExternalCommentId()));
+            if (c.getCommentId() != null) {
+                inserted.add(c);
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * 공용 원본 댓글 일괄 UPSERT 후 shared_comment_id 를 각 댓글에 설정
+     * (플랫폼이 없는 댓글은 공용 저장소에 올리지 않음)
+     */
+    public void upsertSharedComments(List<Comment> comments) {
+        // 같은 키를 동시에 UPSERT 하는 트랜잭션끼리 교착되지 않도록 키 순서로 정렬
+        List<Comment> shareable = comments.stream()
+                .filter(c -> c.getPlatform() != null)
+                .sorted(Comparator.comparing(Comment::getPlatform).thenComparing(Comment::getExternalCommentId))
+                .toList();
+        if (shareable.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SHARED, shareable, shareable.size(), (ps, c) -> {
+            ps.setString(1, c.getPlatform());
+            ps.setString(2, c.getExternalCommentId());
+            ps.setString(3, c.getContentUrl());
+            ps.setString(4, c.getAuthorName());
+            ps.setString(5, c.getAuthorIdentifier());
+            ps.setString(6, c.getContent());
+            ps.setTimestamp(7, toTimestamp(c.getCommentedAt()));
+            ps.setInt(8, c.getLikeCount());
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+        });
+
+        Map<String, List<Comment>> byPlatform = shareable.stream()
+                .collect(Collectors.groupingBy(Comment::getPlatform));
+        for (Map.Entry<String, List<Comment>> entry : byPlatform.entrySet()) {
+            List<String> externalIds = entry.getValue().stream().map(Comment::getExternalCommentId).toList();
+            String placeholders = String.join(", ", Collections.nCopies(externalIds.size(), "?"));
+            Object[] args = new Object[externalIds.size() + 1];
+            args[0] = entry.getKey();
+            for (int i = 0; i < externalIds.size(); i++) {
+                args[i + 1] = externalIds.get(i);
+            }
+
+            Map<String, Long> ids = new HashMap<>();
+            jdbcTemplate.query(
+                    "SELECT shared_comment_id, external_comment_id FROM shared_comments WHERE platform = ? "
+                            + "AND external_comment_id IN (" + placeholders + ")",
+                    (RowCallbackHandler) rs -> {
+                        ids.put(rs.getString("external_comment_id"), rs.getLong("shared_comment_id"));
+                    },
+                    args);
+            for (Comment c : entry.getValue()) {
+                c.setSharedCommentId(ids.get(c.getExternalCommentId()));
+            }
+        }
+    }
+
+    /**
+     * 외부 댓글 ID → comment_id (쿼리 1회)
+     */
+    public Map<String, Long> findIdsByExternalIds(Long userId, List<String> externalIds) {
+        if (externalIds.isEmpty()) {
+            return Map.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(externalIds.size(), "?"));
+        Object[] args = new Object[externalIds.size() + 1];
+        args[0] = userId;
+        for (int i = 0; i < externalIds.size(); i++) {
+            args[i + 1] = externalIds.get(i);
+        }
+
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT comment_id, external_comment_id FROM comments WHERE user_id = ? AND external_comment_id IN ("
+                        + placeholders + ")",
+                (RowCallbackHandler) rs -> {
+                    ids.put(rs.getString("external_comment_id"), rs.getLong("comment_id"));
+                },
+                args);
+        return ids;
+    }
+
+    /**
+     * 분석 작업 일괄 등록 (PENDING)
+     */
+    public void insertAnalysisTasks(Long userId, List<Long> commentIds, LocalDateTime nextAttemptAt) {
+        if (commentIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp next = Timestamp.valueOf(nextAttemptAt);
+        jdbcTemplate.batchUpdate(INSERT_TASK, commentIds, commentIds.size(), (ps, commentId) -> {
+            ps.setLong(1, commentId);
+            ps.setLong(2, userId);
+            ps.setString(3, AnalysisTask.TaskStatus.PENDING.name());
+            ps.setTimestamp(4, next);
+            ps.setTimestamp(5, now);
+        });
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime time) {
+        return time != null ? Timestamp.valueOf(time) : null;
+    }
+}
@@ -5,7 +5,9 @@ import com.sns.analyzer.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,8 +17,6 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
         List<Comment> findByUserId(Long userId);
 
-        void deleteByUserId(Long userId);
-
         List<Comment> findByUserIdAndContentUrl(Long userId, String contentUrl);
 
         List<Comment> findByExternalCommentId(String externalCommentId);
@@ -25,6 +25,14 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
         boolean existsByUserIdAndExternalCommentId(Long userId, String externalCommentId);
 
+        // 이미 저장된 외부 댓글 ID (수집 chunk 단위 중복 확인, 쿼리 1회)
+        @Query("SELECT c.externalCommentId FROM Comment c WHERE c.userId = :userId AND c.externalCommentId IN :externalIds")
+        List<String> findExistingExternalIds(Long userId, Collection<String> externalIds);
+
+        // 아직 분석되지 않은 댓글 ID (크롤링 후 분석 대상)
+        @Query("SELECT c.commentId FROM Comment c WHERE c.userId = :userId AND c.contentUrl = :url AND c.isAnalyzed = false")
+        List<Long> findUnanalyzedIds(Long userId, String url);
+
         List<Comment> findByIsAnalyzed(Boolean isAnalyzed);
 
         List<Comment> findByIsMalicious(Boolean isMalicious);
@@ -40,11 +48,6 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
         Page<Comment> findByUserIdAndContentUrlAndCommentedAtBetween(Long userId, String url,
                         java.time.LocalDateTime start, java.time.LocalDateTime end, Pageable pageable);
 
-        void deleteByUserIdAndContentUrlAndCommentedAtBetween(Long userId, String contentUrl,
-                        java.time.LocalDateTime start, java.time.LocalDateTime end);
-
-        void deleteByUserIdAndContentUrl(Long userId, String contentUrl);
-
         Integer countByPostId(Long postId);
 
         Integer countByPostIdAndIsMalicious(Long postId, Boolean isMalicious);
@@ -56,4 +59,13 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
         Page<Comment> findByUserIdAndContentUrlAndIsMaliciousAndCommentedAtBetween(Long userId, String url,
                         Boolean isMalicious, java.time.LocalDateTime start, java.time.LocalDateTime end,
                         Pageable pageable);
-}
\ No newline at end of file
+
+        // 차단 단어 포함 여부 필터 (url/isMalicious 는 null 이면 조건 없음, idx_comments_user_blocked 사용)
+        @Query("SELECT c FROM Comment c WHERE c.userId = :userId AND c.containsBlockedWord = :containsBlockedWord "
+                        + "AND c.commentedAt BETWEEN :start AND :end "
+                        + "AND (:url IS NULL OR c.contentUrl = :url) "
+                        + "AND (:isMalicious IS NULL OR c.isMalicious = :isMalicious)")
+        Page<Comment> findByBlockedWordFilter(Long userId, String url, Boolean isMalicious,
+                        Boolean containsBlockedWord, java.time.LocalDateTime start, java.time.LocalDateTime end,
+                        Pageable pageable);
+}
@@ -0,0 +1,23 @@
+// ==================== CrawlWatermarkRepository.java ====================
+package com.sns.analyzer.repository;
+
+import com.sns.analyzer.entity.CrawlWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CrawlWatermarkRepository extends JpaRepository<CrawlWatermark, Long> {
+    Optional<CrawlWatermark> findByUserIdAndContentUrl(Long userId, String contentUrl);
+
+    @Modifying
+    @Query("DELETE FROM CrawlWatermark w WHERE w.userId = :userId")
+    int deleteByUserId(Long userId);
+
+    @Modifying
+    @Query("DELETE FROM CrawlWatermark w WHERE w.userId = :userId AND w.contentUrl = :contentUrl")
+    int deleteByUserIdAndContentUrl(Long userId, String contentUrl);
+}
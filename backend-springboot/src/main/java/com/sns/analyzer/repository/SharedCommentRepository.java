@@ -0,0 +1,30 @@
+// ==================== SharedCommentRepository.java ====================
+package com.sns.analyzer.repository;
+
+import com.sns.analyzer.entity.SharedComment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SharedCommentRepository extends JpaRepository<SharedComment, Long> {
+
+    // 판정이 저장된 공용 댓글만 조회
+    @Query("SELECT s FROM SharedComment s WHERE s.sharedCommentId IN :ids AND s.modelVerdict IS NOT NULL")
+    List<SharedComment> findScoredByIds(Collection<Long> ids);
+
+    // 모델 판정 저장 (먼저 저장된 판정이 있거나, 그 사이 공용 댓글 내용이 바뀌었으면 저장하지 않음)
+    @Modifying
+    @Transactional
+    @Query("UPDATE SharedComment s SET s.modelVerdict = :verdict, s.modelVersion = :modelVersion, "
+            + "s.scoredAt = :now WHERE s.sharedCommentId = :id AND s.modelVerdict IS NULL AND s.content = :content")
+    int saveModelVerdict(Long id, String content, String verdict, String modelVersion, LocalDateTime now);
+
+    long countByModelVerdictIsNotNull();
+}
@@ -0,0 +1,10 @@
+// ==================== SystemSettingRepository.java ====================
+package com.sns.analyzer.repository;
+
+import com.sns.analyzer.entity.SystemSetting;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SystemSettingRepository extends JpaRepository<SystemSetting, String> {
+}
@@ -0,0 +1,55 @@
+// ==================== WatchedContentRepository.java ====================
+package com.sns.analyzer.repository;
+
+import com.sns.analyzer.entity.WatchedContent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WatchedContentRepository extends JpaRepository<WatchedContent, Long> {
+    List<WatchedContent> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    Optional<WatchedContent> findByUserIdAndContentUrl(Long userId, String contentUrl);
+
+    long countByUserId(Long userId);
+
+    // 수집 시각이 되었고 임대되지 않은 대상 (오래 기다린 순)
+    @Query("SELECT w FROM WatchedContent w WHERE w.enabled = true AND w.nextCrawlAt <= :now "
+            + "AND (w.leaseExpiresAt IS NULL OR w.leaseExpiresAt < :now) ORDER BY w.nextCrawlAt")
+    List<WatchedContent> findDue(LocalDateTime now, Pageable pageable);
+
+    // 대상 1건 임대 (조건부 UPDATE → 여러 인스턴스 중 한 곳만 성공)
+    @Modifying
+    @Transactional
+    @Query("UPDATE WatchedContent w SET w.leaseOwner = :owner, w.leaseExpiresAt = :leaseUntil "
+            + "WHERE w.watchId = :watchId AND w.enabled = true AND w.nextCrawlAt <= :now "
+            + "AND (w.leaseExpiresAt IS NULL OR w.leaseExpiresAt < :now)")
+    int claim(Long watchId, String owner, LocalDateTime now, LocalDateTime leaseUntil);
+
+    // 감시 끄기 (수집 중인 인스턴스의 임대 컬럼은 건드리지 않음)
+    @Modifying
+    @Transactional
+    @Query("UPDATE WatchedContent w SET w.enabled = false WHERE w.watchId = :watchId AND w.userId = :userId")
+    int disable(Long watchId, Long userId);
+
+    // 감시 다시 켜기 (실패 횟수 초기화 + 다음 수집 시각만 변경, 임대 컬럼은 유지)
+    @Modifying
+    @Transactional
+    @Query("UPDATE WatchedContent w SET w.enabled = true, w.consecutiveFailures = 0, w.nextCrawlAt = :nextCrawlAt "
+            + "WHERE w.watchId = :watchId AND w.userId = :userId")
+    int enable(Long watchId, Long userId, LocalDateTime nextCrawlAt);
+
+    // 전체 인스턴스에서 수집 중인 대상 수
+    long countByLeaseExpiresAtAfter(LocalDateTime now);
+
+    // 사용자별 수집 중인 대상 수
+    long countByUserIdAndLeaseExpiresAtAfter(Long userId, LocalDateTime now);
+}
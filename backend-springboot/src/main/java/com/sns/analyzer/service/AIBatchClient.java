@@ -0,0 +1,236 @@
+// ==================== AIBatchClient.java ====================
+package com.sns.analyzer.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.*;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * AI 분석 요청 마이크로 배칭 클라이언트
+ * - 짧은 시간(max-wait) 또는 크기(size) 단위로 동시 요청을 모아 /analyze/batch 한 번으로 전송
+ * - 차단 단어 목록이 같은 요청끼리만 묶음 (배치 API는 차단 단어를 배치 단위로 받음)
+ * - 동시에 전송 중인 배치 수는 max-in-flight 로 제한
+ * - HTTP 읽기 타임아웃도 최근 p99 기반 (호출자가 포기한 배치가 전송 스레드를 오래 붙잡지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+public class AIBatchClient {
+
+    private static final String ANALYZE_BATCH = "/analyze/batch";
+
+    // FastAPI /analyze/batch 가 한 요청에서 처리하는 최대 텍스트 수 (넘는 텍스트는 잘려서 판정이 비어 돌아옴)
+    static final int SERVER_MAX_BATCH = 10;
+
+    private final AILatencyTracker aiLatencyTracker;
+
+    @Value("${ai.service.url:http://localhost:8000}")
+    private String aiServiceUrl;
+
+    @Value("${ai.service.batch.size:10}")
+    private int batchSize;
+
+    @Value("${ai.service.batch.max-wait-ms:20}")
+    private long maxWaitMs;
+
+    @Value("${ai.service.batch.max-in-flight:4}")
+    private int maxInFlight;
+
+    @Value("${ai.service.batch.connect-timeout-ms:5000}")
+    private int connectTimeoutMs;
+
+    private RestTemplate restTemplate;
+
+    // 차단 단어 목록별 대기 중인 배치 (lock 으로 보호)
+    private final Map<List<String>, PendingBatch> pendingBatches = new HashMap<>();
+    private final Object lock = new Object();
+
+    private ScheduledExecutorService flushScheduler;
+    private ExecutorService sender;
+
+    @PostConstruct
+    void init() {
+        if (batchSize > SERVER_MAX_BATCH || batchSize < 1) {
+            System.err.println("[ERROR] ai.service.batch.size=" + batchSize
+                    + " 는 /analyze/batch 허용 범위(1~" + SERVER_MAX_BATCH + ")를 벗어나 " + SERVER_MAX_BATCH + " 로 맞춤");
+            batchSize = SERVER_MAX_BATCH;
+        }
+        // 연결마다 현재 p99 기반 타임아웃을 읽기 타임아웃으로 설정
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory() {
+            @Override
+            protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+                super.prepareConnection(connection, httpMethod);
+                connection.setReadTimeout((int) Math.min(Integer.MAX_VALUE,
+                        aiLatencyTracker.timeoutMs(ANALYZE_BATCH)));
+            }
+        };
+        requestFactory.setConnectTimeout(connectTimeoutMs);
+        restTemplate = new RestTemplate(requestFactory);
+
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "ai-batch-flush");
+            t.setDaemon(true);
+            return t;
+        });
+        // 스레드 수 = 동시에 전송 가능한 최대 배치 수
+        sender = Executors.newFixedThreadPool(Math.max(1, maxInFlight), r -> {
+            Thread t = new Thread(r, "ai-batch-sender");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flushScheduler.shutdownNow();
+        sender.shutdown();
+    }
+
+    /**
+     * 분석 요청 등록 (배치에 합류)
+     */
+    public CompletableFuture<Map<String, Object>> submit(String text, List<String> customBlockedWords) {
+        List<String> key = customBlockedWords != null ? List.copyOf(customBlockedWords) : List.of();
+        CompletableFuture<Map<String, Object>> future = new CompletableFuture<>();
+        PendingBatch ready = null;
+
+        synchronized (lock) {
+            PendingBatch batch = pendingBatches.get(key);
+            if (batch == null) {
+                batch = new PendingBatch(key);
+                pendingBatches.put(key, batch);
+                PendingBatch scheduled = batch;
+                flushScheduler.schedule(() -> flushIfPending(scheduled), maxWaitMs, TimeUnit.MILLISECONDS);
+            }
+            batch.texts.add(text);
+            batch.futures.add(future);
+
+            if (batch.texts.size() >= batchSize) {
+                pendingBatches.remove(key);
+                ready = batch;
+            }
+        }
+
+        if (ready != null) {
+            dispatch(ready);
+        }
+        return future;
+    }
+
+    /**
+     * 분석 요청 후 결과 대기 (동기 호출용)
+     */
+    public Map<String, Object> analyze(String text, List<String> customBlockedWords) {
+        // 최근 p99 기반 대기 시간 (배치 대기 + 전송 대기 포함), 초과 시 호출자는 실패 처리
+        long timeoutMs = maxWaitMs + aiLatencyTracker.timeoutMs(ANALYZE_BATCH);
+        try {
+            return submit(text, customBlockedWords).get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new RuntimeException("AI service call timed out after " + timeoutMs + "ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("AI service call interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new RuntimeException("AI service call failed: " + cause.getMessage());
+        }
+    }
+
+    /**
+     * 대기 시간 만료 시 아직 전송되지 않은 배치 전송
+     */
+    private void flushIfPending(PendingBatch batch) {
+        synchronized (lock) {
+            if (pendingBatches.get(batch.blockedWords) != batch) {
+                return; // 이미 크기 조건으로 전송됨
+            }
+            pendingBatches.remove(batch.blockedWords);
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(PendingBatch batch) {
+        try {
+            sender.execute(() -> send(batch));
+        } catch (RejectedExecutionException e) {
+            batch.failAll(e);
+        }
+    }
+
+    /**
+     * /analyze/batch 호출 후 결과를 각 요청자에게 분배
+     */
+    private void send(PendingBatch batch) {
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+
+            // 차단 단어 목록은 수천 개일 수 있어 쿼리 문자열이 아닌 본문으로 전송
+            Map<String, Object> requestBody = new HashMap<>();
+            requestBody.put("texts", batch.texts);
+            requestBody.put("language", "ko");
+            requestBody.put("use_dual_model", true);
+            requestBody.put("custom_blocked_words", batch.blockedWords);
+
+            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
+
+            long start = System.currentTimeMillis();
+            ResponseEntity<Map> response = restTemplate.exchange(aiServiceUrl + ANALYZE_BATCH, HttpMethod.POST,
+                    entity, Map.class);
+            aiLatencyTracker.record(ANALYZE_BATCH, System.currentTimeMillis() - start);
+
+            @SuppressWarnings("unchecked")
+            Map<String, Object> body = response.getBody();
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> results = body != null
+                    ? (List<Map<String, Object>>) body.get("results")
+                    : null;
+
+            for (int i = 0; i < batch.futures.size(); i++) {
+                Map<String, Object> result = results != null && i < results.size() ? results.get(i) : null;
+                if (result != null) {
+                    batch.futures.get(i).complete(result);
+                } else {
+                    batch.futures.get(i).completeExceptionally(
+                            new IllegalStateException("No result returned for batch item " + i));
+                }
+            }
+        } catch (Exception e) {
+            if (e instanceof ResourceAccessException && e.getCause() instanceof SocketTimeoutException) {
+                aiLatencyTracker.recordTimeout(ANALYZE_BATCH, aiLatencyTracker.timeoutMs(ANALYZE_BATCH));
+            }
+            System.err.println("[ERROR] AI batch call failed (" + batch.texts.size() + " texts): " + e.getMessage());
+            batch.failAll(e);
+        }
+    }
+
+    /**
+     * 전송 대기 중인 배치
+     */
+    private static class PendingBatch {
+        private final List<String> blockedWords;
+        private final List<String> texts = new ArrayList<>();
+        private final List<CompletableFuture<Map<String, Object>>> futures = new ArrayList<>();
+
+        PendingBatch(List<String> blockedWords) {
+            this.blockedWords = blockedWords;
+        }
+
+        void failAll(Throwable cause) {
+            for (CompletableFuture<Map<String, Object>> f : futures) {
+                f.completeExceptionally(cause);
+            }
+        }
+    }
+}
@@ -0,0 +1,295 @@
+// ==================== AICircuitBreaker.java ====================
+package com.sns.analyzer.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * AI 서비스 서킷 브레이커 + 벌크헤드
+ * - CLOSED: 정상 호출, 최근 window 건 중 실패율 또는 느린 호출 비율이 임계치를 넘으면 OPEN
+ *   (느린 호출 = 성공했지만 slow-call-duration-ms 이상 걸린 호출, 느려진 AI 서비스가 워커를 모두 붙잡는 것 방지)
+ * - OPEN: open-duration 동안 호출하지 않고 즉시 대체 판정
+ * - HALF_OPEN: 소수의 probe 호출만 허용, 빠르게 성공하면 CLOSED / 실패하거나 느리면 다시 OPEN
+ * - 벌크헤드: 동시 AI 호출 수를 max-concurrent 로 제한 (초과 시 대체 판정)
+ */
+@Component
+public class AICircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    @Value("${ai.service.circuit.window-size:20}")
+    private int windowSize;
+
+    @Value("${ai.service.circuit.failure-rate-threshold:50}")
+    private int failureRateThreshold;
+
+    @Value("${ai.service.circuit.slow-call-duration-ms:10000}")
+    private long slowCallDurationMs;
+
+    @Value("${ai.service.circuit.slow-call-rate-threshold:80}")
+    private int slowCallRateThreshold;
+
+    @Value("${ai.service.circuit.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    @Value("${ai.service.circuit.half-open-probes:3}")
+    private int halfOpenProbes;
+
+    @Value("${ai.service.bulkhead.max-concurrent:128}")
+    private int maxConcurrent;
+
+    @Value("${ai.service.bulkhead.max-wait-ms:500}")
+    private long maxWaitMs;
+
+    private Semaphore bulkhead;
+
+    // 최근 호출 결과 (true = 실패 / 느림), 원형 버퍼
+    private boolean[] window;
+    private boolean[] slowWindow;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private int windowSlowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    private final AtomicLong rejectedByCircuit = new AtomicLong();
+    private final AtomicLong rejectedByBulkhead = new AtomicLong();
+    private final AtomicInteger openCount = new AtomicInteger();
+
+    @PostConstruct
+    void init() {
+        bulkhead = new Semaphore(Math.max(1, maxConcurrent));
+        window = new boolean[Math.max(1, windowSize)];
+        slowWindow = new boolean[window.length];
+    }
+
+    /**
+     * 보호된 호출 (차단되거나 실패하면 fallback 결과 반환)
+     * 벌크헤드 자리는 max-wait-ms 동안 기다림
+     */
+    public <T> T execute(Supplier<T> call, Supplier<T> fallback) {
+        Permit permit = tryAcquire(true);
+        if (permit == null) {
+            return fallback.get();
+        }
+        try {
+            T result = call.get();
+            permit.success();
+            return result;
+        } catch (RuntimeException e) {
+            permit.failure();
+            System.err.println("[ERROR] AI call failed, using fallback: " + e.getMessage());
+            return fallback.get();
+        }
+    }
+
+    /**
+     * 호출 허가 획득 (거부되면 null)
+     * 허가를 받은 호출자는 반드시 success() 또는 failure() 를 한 번 호출해야 함
+     * (호출 시간은 허가 획득 시점부터 측정)
+     */
+    public Permit tryAcquire(boolean wait) {
+        boolean probe;
+        synchronized (this) {
+            if (state == State.OPEN) {
+                if (System.currentTimeMillis() - openedAt < openDurationMs) {
+                    rejectedByCircuit.incrementAndGet();
+                    return null;
+                }
+                state = State.HALF_OPEN;
+                halfOpenInFlight = 0;
+                halfOpenSuccesses = 0;
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenInFlight >= halfOpenProbes) {
+                    rejectedByCircuit.incrementAndGet();
+                    return null;
+                }
+                halfOpenInFlight++;
+                probe = true;
+            } else {
+                probe = false;
+            }
+        }
+
+        boolean acquired;
+        try {
+            acquired = wait
+                    ? bulkhead.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)
+                    : bulkhead.tryAcquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejectedByBulkhead.incrementAndGet();
+            if (probe) {
+                synchronized (this) {
+                    halfOpenInFlight--;
+                }
+            }
+            return null;
+        }
+        return new Permit(probe, true);
+    }
+
+    /**
+     * 헤지 요청용 벌크헤드 자리 (서킷이 닫혀 있고 빈 자리가 있을 때만, 기다리지 않음, 거부되면 null)
+     * 헤지 결과는 서킷 판정 창에 기록하지 않음 (원래 요청이 이미 기록)
+     */
+    public Permit tryAcquireHedge() {
+        synchronized (this) {
+            if (state != State.CLOSED) {
+                return null;
+            }
+        }
+        if (!bulkhead.tryAcquire()) {
+            return null;
+        }
+        return new Permit(false, false);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * 서킷/벌크헤드 상태
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (this) {
+            stats.put("state", state);
+            stats.put("windowCalls", windowCount);
+            stats.put("windowFailures", windowFailures);
+            stats.put("windowSlowCalls", windowSlowCalls);
+        }
+        stats.put("slowCallDurationMs", slowCallDurationMs);
+        stats.put("openCount", openCount.get());
+        stats.put("rejectedByCircuit", rejectedByCircuit.get());
+        stats.put("rejectedByBulkhead", rejectedByBulkhead.get());
+        stats.put("bulkheadAvailable", bulkhead.availablePermits());
+        stats.put("bulkheadMax", maxConcurrent);
+        return stats;
+    }
+
+    private synchronized void record(boolean probe, boolean failed, boolean slow) {
+        if (probe) {
+            halfOpenInFlight--;
+            if (state != State.HALF_OPEN) {
+                return;
+            }
+            if (failed || slow) {
+                open();
+            } else if (++halfOpenSuccesses >= halfOpenProbes) {
+                close();
+            }
+            return;
+        }
+
+        if (state != State.CLOSED) {
+            return;
+        }
+
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+            if (slowWindow[windowIndex]) {
+                windowSlowCalls--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failed;
+        slowWindow[windowIndex] = slow;
+        if (failed) {
+            windowFailures++;
+        }
+        if (slow) {
+            windowSlowCalls++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+
+        if (windowCount == window.length
+                && (windowFailures * 100 >= failureRateThreshold * windowCount
+                || windowSlowCalls * 100 >= slowCallRateThreshold * windowCount)) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        openCount.incrementAndGet();
+        System.err.println("[ERROR] AI circuit OPEN for " + openDurationMs + "ms");
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+        windowSlowCalls = 0;
+        System.out.println("[DEBUG] AI circuit CLOSED");
+    }
+
+    /**
+     * 호출 허가 (벌크헤드 자리 1개)
+     */
+    public class Permit {
+        private final boolean probe;
+        // false 면 서킷 판정 창에 기록하지 않음 (헤지 요청)
+        private final boolean counted;
+        private final long startedAt = System.nanoTime();
+        private boolean released;
+
+        private Permit(boolean probe, boolean counted) {
+            this.probe = probe;
+            this.counted = counted;
+        }
+
+        public void success() {
+            release(false);
+        }
+
+        public void failure() {
+            release(true);
+        }
+
+        private void release(boolean failed) {
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+            }
+            bulkhead.release();
+            if (!counted) {
+                return;
+            }
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            record(probe, failed, !failed && elapsedMs >= slowCallDurationMs);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+// ==================== AILatencyTracker.java ====================
+package com.sns.analyzer.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AI 서비스 엔드포인트별 응답 시간 추적
+ * - 최근 window 건의 응답 시간으로 p95 / p99 계산
+ * - 타임아웃 = p99 × timeout-multiplier (min/max 범위로 제한)
+ * - 헤지 요청 지연 = p95 (이 시간 안에 응답이 없으면 같은 요청을 한 번 더 전송)
+ * - 표본이 min-samples 보다 적으면 기본 타임아웃, 헤지 없음
+ */
+@Component
+public class AILatencyTracker {
+
+    @Value("${ai.service.latency.window-size:200}")
+    private int windowSize;
+
+    @Value("${ai.service.latency.min-samples:20}")
+    private int minSamples;
+
+    @Value("${ai.service.latency.default-timeout-ms:30000}")
+    private long defaultTimeoutMs;
+
+    @Value("${ai.service.latency.timeout-multiplier:2.0}")
+    private double timeoutMultiplier;
+
+    @Value("${ai.service.latency.min-timeout-ms:2000}")
+    private long minTimeoutMs;
+
+    @Value("${ai.service.latency.max-timeout-ms:120000}")
+    private long maxTimeoutMs;
+
+    @Value("${ai.service.latency.min-hedge-delay-ms:200}")
+    private long minHedgeDelayMs;
+
+    private final Map<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+    private final AtomicLong hedgesSent = new AtomicLong();
+    private final AtomicLong hedgesWon = new AtomicLong();
+    private final AtomicLong hedgesSkipped = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+
+    /**
+     * 응답 시간 기록
+     */
+    public void record(String endpoint, long elapsedMs) {
+        windows.computeIfAbsent(endpoint, k -> new LatencyWindow(Math.max(1, windowSize))).add(elapsedMs);
+    }
+
+    /**
+     * 타임아웃 기록 (타임아웃 값을 표본으로 남겨 p99 가 과소 추정되지 않도록)
+     */
+    public void recordTimeout(String endpoint, long timeoutMs) {
+        timeouts.incrementAndGet();
+        record(endpoint, timeoutMs);
+    }
+
+    /**
+     * 현재 적용할 타임아웃 (ms)
+     */
+    public long timeoutMs(String endpoint) {
+        long p99 = percentile(endpoint, 0.99);
+        if (p99 < 0) {
+            return defaultTimeoutMs;
+        }
+        long timeout = (long) (p99 * timeoutMultiplier);
+        return Math.max(minTimeoutMs, Math.min(maxTimeoutMs, timeout));
+    }
+
+    /**
+     * 헤지 요청을 보낼 지연 시간 (ms), 표본이 부족하면 -1 (헤지 없음)
+     */
+    public long hedgeDelayMs(String endpoint) {
+        long p95 = percentile(endpoint, 0.95);
+        if (p95 < 0) {
+            return -1;
+        }
+        return Math.max(minHedgeDelayMs, p95);
+    }
+
+    public void hedgeSent() {
+        hedgesSent.incrementAndGet();
+    }
+
+    public void hedgeSkipped() {
+        hedgesSkipped.incrementAndGet();
+    }
+
+    public void hedgeWon() {
+        hedgesWon.incrementAndGet();
+    }
+
+    /**
+     * 백분위 응답 시간 (ms), 표본이 부족하면 -1
+     */
+    public long percentile(String endpoint, double quantile) {
+        LatencyWindow window = windows.get(endpoint);
+        if (window == null) {
+            return -1;
+        }
+        long[] samples = window.snapshot();
+        if (samples.length < minSamples) {
+            return -1;
+        }
+        Arrays.sort(samples);
+        int index = (int) Math.ceil(quantile * samples.length) - 1;
+        return samples[Math.max(0, Math.min(samples.length - 1, index))];
+    }
+
+    /**
+     * 엔드포인트별 p50/p95/p99 와 현재 타임아웃/헤지 지연
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (String endpoint : windows.keySet()) {
+            Map<String, Object> endpointStats = new LinkedHashMap<>();
+            endpointStats.put("samples", windows.get(endpoint).size());
+            endpointStats.put("p50", percentile(endpoint, 0.50));
+            endpointStats.put("p95", percentile(endpoint, 0.95));
+            endpointStats.put("p99", percentile(endpoint, 0.99));
+            endpointStats.put("timeoutMs", timeoutMs(endpoint));
+            endpointStats.put("hedgeDelayMs", hedgeDelayMs(endpoint));
+            stats.put(endpoint, endpointStats);
+        }
+        stats.put("hedgesSent", hedgesSent.get());
+        stats.put("hedgesWon", hedgesWon.get());
+        stats.put("hedgesSkipped", hedgesSkipped.get());
+        stats.put("timeouts", timeouts.get());
+        return stats;
+    }
+
+    /**
+     * 최근 응답 시간 원형 버퍼
+     */
+    private static class LatencyWindow {
+        private final long[] samples;
+        private int index;
+        private int count;
+
+        LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        synchronized void add(long elapsedMs) {
+            samples[index] = elapsedMs;
+            index = (index + 1) % samples.length;
+            if (count < samples.length) {
+                count++;
+            }
+        }
+
+        synchronized long[] snapshot() {
+            return Arrays.copyOf(samples, count);
+        }
+
+        synchronized int size() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+// ==================== AIVerdictCache.java ====================
+package com.sns.analyzer.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AI 판정 결과 캐시
+ * - 키: 정규화된 댓글 텍스트 + 사용자 활성 차단 단어 지문(fingerprint)의 SHA-256
+ * - LRU(최대 개수) + TTL 만료
+ * - 같은 문장이 반복되는 스팸/복붙 댓글은 AI 서버를 다시 호출하지 않음
+ */
+@Component
+public class AIVerdictCache {
+
+    @Value("${ai.service.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ai.service.cache.max-size:50000}")
+    private int maxSize;
+
+    @Value("${ai.service.cache.ttl-minutes:360}")
+    private long ttlMinutes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    // access-order LinkedHashMap = LRU
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(1024, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            if (size() > maxSize) {
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * 캐시 조회 (없거나 만료되었으면 null)
+     * 호출자가 결과를 수정할 수 있도록 복사본을 반환
+     */
+    public Map<String, Object> get(String text, List<String> customBlockedWords) {
+        if (!enabled) {
+            return null;
+        }
+        String key = key(text, customBlockedWords);
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            if (entry.expiresAt < System.currentTimeMillis()) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            return new HashMap<>(entry.verdict);
+        }
+    }
+
+    /**
+     * 판정 결과 저장
+     */
+    public void put(String text, List<String> customBlockedWords, Map<String, Object> verdict) {
+        if (!enabled || verdict == null || verdict.isEmpty()) {
+            return;
+        }
+        String key = key(text, customBlockedWords);
+        Entry entry = new Entry(new HashMap<>(verdict), System.currentTimeMillis() + ttlMinutes * 60_000L);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * 캐시 전체 비우기
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * 캐시 통계 (hit/miss/eviction)
+     */
+    public Map<String, Object> getStats() {
+        long h = hits.get();
+        long m = misses.get();
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("size", size);
+        stats.put("maxSize", maxSize);
+        stats.put("hits", h);
+        stats.put("misses", m);
+        stats.put("evictions", evictions.get());
+        stats.put("hitRate", (h + m) > 0 ? String.format("%.1f%%", h * 100.0 / (h + m)) : "0.0%");
+        return stats;
+    }
+
+    /**
+     * 텍스트 정규화: 앞뒤 공백 제거, 연속 공백 축약, 소문자화
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (Character.isWhitespace(ch)) {
+                pendingSpace = sb.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                sb.append(' ');
+                pendingSpace = false;
+            }
+            sb.append(Character.toLowerCase(ch));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 차단 단어 목록 지문 (순서 무관)
+     */
+    static String fingerprint(List<String> customBlockedWords) {
+        if (customBlockedWords == null || customBlockedWords.isEmpty()) {
+            return "";
+        }
+        List<String> sorted = new ArrayList<>(customBlockedWords.size());
+        for (String word : customBlockedWords) {
+            sorted.add(word.trim().toLowerCase());
+        }
+        Collections.sort(sorted);
+        return String.join("\n", sorted);
+    }
+
+    private static String key(String text, List<String> customBlockedWords) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(normalize(text).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(fingerprint(customBlockedWords).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Entry(Map<String, Object> verdict, long expiresAt) {
+    }
+}
@@ -0,0 +1,384 @@
+// ==================== AnalysisJobService.java ====================
+package com.sns.analyzer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sns.analyzer.entity.AnalysisJob;
+import com.sns.analyzer.repository.AnalysisJobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PreDestroy;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 비동기 작업 실행 및 진행률 관리
+ * - 작업 등록 즉시 jobId 반환, 실제 처리는 jobExecutor 에서 실행
+ * - 진행률은 flush-interval 마다 DB에 저장하고 SSE 구독자에게 전송
+ * - 완료/실패 상태와 결과 요약이 DB에 남으므로 클라이언트 연결이 끊겨도 결과 조회 가능
+ * - 실행 중인 작업은 owner(인스턴스) + heartbeatAt 을 주기적으로 갱신
+ *   → 하트비트가 만료된 작업만 다른(또는 재시작한) 인스턴스가 재개/실패 처리 (여러 인스턴스/롤링 배포에서 중복 실행 방지)
+ */
+@Service
+@RequiredArgsConstructor
+public class AnalysisJobService {
+
+    private final AnalysisJobRepository analysisJobRepository;
+    private final ExecutorService jobExecutor;
+    private final ObjectMapper objectMapper;
+
+    @Value("${job.progress-flush-ms:1000}")
+    private long progressFlushMs;
+
+    @Value("${job.sse-timeout-ms:1800000}")
+    private long sseTimeoutMs;
+
+    // 재시작으로 중단된 작업을 다시 실행하는 최대 횟수
+    @Value("${job.max-resumes:3}")
+    private int maxResumes;
+
+    @Value("${job.heartbeat-seconds:15}")
+    private long heartbeatSeconds;
+
+    // 하트비트가 이 시간 이상 갱신되지 않으면 실행 인스턴스가 종료된 것으로 봄
+    @Value("${job.heartbeat-timeout-seconds:60}")
+    private long heartbeatTimeoutSeconds;
+
+    // 이 프로세스의 식별자 (작업 owner)
+    private final String instanceId = System.getenv().getOrDefault("HOSTNAME", "local") + "-"
+            + UUID.randomUUID().toString().substring(0, 8);
+
+    private ScheduledExecutorService heartbeat;
+
+    // 실행 중인 작업의 진행률 (메모리)
+    private final Map<Long, RunningJob> runningJobs = new ConcurrentHashMap<>();
+
+    // 작업별 SSE 구독자
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    // 작업 유형별 재개 함수
+    private final Map<AnalysisJob.JobType, BiFunction<AnalysisJob, JobProgress, Map<String, Object>>> resumers =
+            new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startHeartbeat() {
+        heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "job-heartbeat");
+            t.setDaemon(true);
+            return t;
+        });
+        heartbeat.scheduleWithFixedDelay(this::heartbeatTick, 0, heartbeatSeconds, TimeUnit.SECONDS);
+        System.out.println("[DEBUG] Job heartbeat started: " + instanceId + ", every " + heartbeatSeconds
+                + "s (timeout " + heartbeatTimeoutSeconds + "s)");
+    }
+
+    @PreDestroy
+    public void stopHeartbeat() {
+        if (heartbeat != null) {
+            heartbeat.shutdownNow();
+        }
+    }
+
+    private void heartbeatTick() {
+        try {
+            if (!runningJobs.isEmpty()) {
+                analysisJobRepository.touchHeartbeat(instanceId, List.copyOf(runningJobs.keySet()),
+                        LocalDateTime.now());
+            }
+            resumeInterruptedJobs();
+        } catch (Exception e) {
+            System.err.println("[ERROR] Job heartbeat failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 실행 인스턴스가 종료되어 하트비트가 만료된 작업 처리 (시작 시 + 하트비트 주기마다)
+     * - 재개 가능한 작업(resumer 등록)은 조건부 UPDATE 로 가져온 인스턴스 한 곳에서만 다시 실행
+     *   (진행 위치는 저장하지 않으므로 처음부터 다시 수집하고, 이미 저장된 댓글은 중복 제거로 건너뜀)
+     * - 나머지는 실패 처리
+     */
+    public void resumeInterruptedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusSeconds(heartbeatTimeoutSeconds);
+        int resumed = 0;
+        for (AnalysisJob job : analysisJobRepository.findExpiredJobs(cutoff)) {
+            BiFunction<AnalysisJob, JobProgress, Map<String, Object>> resumer = resumers.get(job.getJobType());
+            if (resumer == null || job.getParams() == null || job.getResumeCount() >= maxResumes) {
+                continue;
+            }
+            if (analysisJobRepository.claimExpiredJob(job.getJobId(), instanceId, now, cutoff) == 0) {
+                continue; // 다른 인스턴스가 먼저 가져감
+            }
+            job.setOwner(instanceId);
+            job.setHeartbeatAt(now);
+            job.setResumeCount(job.getResumeCount() + 1);
+            job.setStatus(AnalysisJob.JobStatus.PENDING);
+            AnalysisJob saved = analysisJobRepository.save(job);
+            start(saved, progress -> resumer.apply(saved, progress));
+            resumed++;
+        }
+
+        // 재개 함수가 하나도 없으면 모든 유형 + 재개 횟수 0 으로 전달 → 만료된 작업 전부 실패 처리
+        List<AnalysisJob.JobType> resumableTypes = new ArrayList<>(resumers.keySet());
+        int failed = analysisJobRepository.failExpiredJobs("실행 중이던 서버가 종료되어 작업이 중단되었습니다.", now, cutoff,
+                resumableTypes.isEmpty() ? List.of(AnalysisJob.JobType.values()) : resumableTypes,
+                resumableTypes.isEmpty() ? 0 : maxResumes);
+        if (resumed > 0 || failed > 0) {
+            System.out.println("[DEBUG] Interrupted jobs: " + resumed + " resumed, " + failed + " marked FAILED");
+        }
+    }
+
+    /**
+     * 재시작 시 작업을 이어서 실행할 함수 등록 (작업 유형별)
+     */
+    public void registerResumer(AnalysisJob.JobType jobType,
+            BiFunction<AnalysisJob, JobProgress, Map<String, Object>> resumer) {
+        resumers.put(jobType, resumer);
+    }
+
+    /**
+     * 작업 등록 (즉시 반환)
+     * work 는 진행률 객체를 받아 결과 요약 Map 을 반환
+     */
+    public AnalysisJob submit(Long userId, AnalysisJob.JobType jobType, String contentUrl,
+            Function<JobProgress, Map<String, Object>> work) {
+        return submit(userId, jobType, contentUrl, null, work);
+    }
+
+    /**
+     * 작업 등록 (재시작 시 재개할 수 있도록 요청 파라미터 저장)
+     */
+    public AnalysisJob submit(Long userId, AnalysisJob.JobType jobType, String contentUrl,
+            Map<String, Object> params, Function<JobProgress, Map<String, Object>> work) {
+        AnalysisJob job = analysisJobRepository.save(AnalysisJob.builder()
+                .userId(userId)
+                .jobType(jobType)
+                .contentUrl(contentUrl)
+                .params(params != null ? writeJson(params) : null)
+                .status(AnalysisJob.JobStatus.PENDING)
+                .owner(instanceId)
+                .heartbeatAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        start(job, work);
+        return job;
+    }
+
+    /**
+     * 저장된 요청 파라미터
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> readParams(AnalysisJob job) {
+        try {
+            return job.getParams() != null ? objectMapper.readValue(job.getParams(), Map.class) : Map.of();
+        } catch (IOException e) {
+            throw new IllegalStateException("Invalid job params: " + e.getMessage());
+        }
+    }
+
+    private void start(AnalysisJob job, Function<JobProgress, Map<String, Object>> work) {
+        Long jobId = job.getJobId();
+        RunningJob running = new RunningJob();
+        running.progress = new JobProgress(() -> onProgress(jobId));
+        runningJobs.put(jobId, running);
+
+        jobExecutor.execute(() -> run(jobId, running.progress, work));
+    }
+
+    private String writeJson(Map<String, Object> value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid job params: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 작업 조회 (실행 중이면 메모리의 최신 진행률 반영)
+     */
+    public AnalysisJob getJob(Long jobId, Long userId) {
+        AnalysisJob job = analysisJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("작업을 찾을 수 없습니다."));
+
+        if (!job.getUserId().equals(userId)) {
+            throw new IllegalArgumentException("권한이 없습니다.");
+        }
+
+        RunningJob running = runningJobs.get(jobId);
+        if (running != null && !job.isFinished()) {
+            applyProgress(job, running.progress);
+        }
+        return job;
+    }
+
+    /**
+     * 사용자의 최근 작업 목록
+     */
+    public List<AnalysisJob> getRecentJobs(Long userId) {
+        return analysisJobRepository.findTop20ByUserIdOrderByCreatedAtDesc(userId);
+    }
+
+    /**
+     * 진행률 SSE 구독
+     */
+    public SseEmitter subscribe(Long jobId, Long userId) {
+        AnalysisJob job = getJob(jobId, userId);
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+
+        if (job.isFinished()) {
+            sendAndComplete(emitter, job);
+            return emitter;
+        }
+
+        List<SseEmitter> list = emitters.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>());
+        list.add(emitter);
+        emitter.onCompletion(() -> list.remove(emitter));
+        emitter.onTimeout(() -> list.remove(emitter));
+        emitter.onError(e -> list.remove(emitter));
+
+        try {
+            emitter.send(SseEmitter.event().name("progress").data(job));
+        } catch (IOException e) {
+            list.remove(emitter);
+        }
+
+        // 구독 직후 작업이 끝난 경우 완료 이벤트를 놓치지 않도록 한 번 더 확인
+        if (!runningJobs.containsKey(jobId)) {
+            analysisJobRepository.findById(jobId)
+                    .filter(AnalysisJob::isFinished)
+                    .ifPresent(finished -> {
+                        list.remove(emitter);
+                        sendAndComplete(emitter, finished);
+                    });
+        }
+        return emitter;
+    }
+
+    private void run(Long jobId, JobProgress progress, Function<JobProgress, Map<String, Object>> work) {
+        AnalysisJob job = null;
+        AnalysisJob finished = null;
+        try {
+            // 작업 조회/RUNNING 저장 실패도 아래에서 FAILED 처리 + 실행 목록 정리
+            job = analysisJobRepository.findById(jobId)
+                    .orElseThrow(() -> new IllegalStateException("작업을 찾을 수 없습니다: " + jobId));
+            job.setStatus(AnalysisJob.JobStatus.RUNNING);
+            job.setStartedAt(LocalDateTime.now());
+            job.setOwner(instanceId);
+            job.setHeartbeatAt(LocalDateTime.now());
+            analysisJobRepository.save(job);
+
+            Map<String, Object> summary = work.apply(progress);
+            job.setResultSummary(objectMapper.writeValueAsString(summary));
+            job.setStatus(AnalysisJob.JobStatus.COMPLETED);
+        } catch (Exception e) {
+            System.err.println("[ERROR] Job " + jobId + " failed: " + e.getMessage());
+            if (job != null) {
+                job.setErrorMessage(e.getMessage());
+                job.setStatus(AnalysisJob.JobStatus.FAILED);
+            }
+        }
+
+        try {
+            if (job != null) {
+                applyProgress(job, progress);
+                job.setFinishedAt(LocalDateTime.now());
+                finished = analysisJobRepository.save(job);
+            }
+        } catch (Exception e) {
+            System.err.println("[ERROR] Failed to save result for job " + jobId + ": " + e.getMessage());
+        } finally {
+            runningJobs.remove(jobId);
+
+            List<SseEmitter> list = emitters.remove(jobId);
+            if (list != null) {
+                for (SseEmitter emitter : list) {
+                    if (finished != null) {
+                        sendAndComplete(emitter, finished);
+                    } else {
+                        emitter.complete();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 진행률 변경 시 호출 (flush-interval 단위로만 DB 저장 + SSE 전송)
+     */
+    private void onProgress(Long jobId) {
+        RunningJob running = runningJobs.get(jobId);
+        if (running == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long last = running.lastFlushAt.get();
+        if (now - last < progressFlushMs || !running.lastFlushAt.compareAndSet(last, now)) {
+            return;
+        }
+
+        JobProgress p = running.progress;
+        try {
+            analysisJobRepository.updateProgress(jobId, p.getTotal(), p.getCrawled(), p.getSaved(),
+                    p.getAnalyzed(), p.getFailed());
+        } catch (Exception e) {
+            System.err.println("[ERROR] Failed to persist progress for job " + jobId + ": " + e.getMessage());
+        }
+
+        List<SseEmitter> list = emitters.get(jobId);
+        if (list == null) {
+            return;
+        }
+        Map<String, Object> event = p.toMap();
+        event.put("jobId", jobId);
+        event.put("status", AnalysisJob.JobStatus.RUNNING);
+        for (SseEmitter emitter : list) {
+            try {
+                emitter.send(SseEmitter.event().name("progress").data(event));
+            } catch (Exception e) {
+                list.remove(emitter);
+            }
+        }
+    }
+
+    private void sendAndComplete(SseEmitter emitter, AnalysisJob job) {
+        try {
+            emitter.send(SseEmitter.event().name("complete").data(job));
+            emitter.complete();
+        } catch (Exception e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void applyProgress(AnalysisJob job, JobProgress progress) {
+        job.setTotalCount(progress.getTotal());
+        job.setCrawledCount(progress.getCrawled());
+        job.setSavedCount(progress.getSaved());
+        job.setAnalyzedCount(progress.getAnalyzed());
+        job.setFailedCount(progress.getFailed());
+    }
+
+    private static class RunningJob {
+        private JobProgress progress;
+        private final AtomicLong lastFlushAt = new AtomicLong();
+    }
+}
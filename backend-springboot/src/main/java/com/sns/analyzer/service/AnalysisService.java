@@ -7,7 +7,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.*;
@@ -26,11 +25,21 @@ public class AnalysisService {
     private final AnalysisResultRepository analysisResultRepository;
     private final BlacklistService blacklistService;
     private final BlockedWordService blockedWordService; // 추가!
-    private final RestTemplate restTemplate;
+    private final AIBatchClient aiBatchClient;
+    private final ReactiveAIClient reactiveAIClient;
+    private final AIVerdictCache aiVerdictCache;
+    private final AICircuitBreaker aiCircuitBreaker;
+    private final RuleBasedAnalyzer ruleBasedAnalyzer;
+    private final CommentPreFilter commentPreFilter;
+    private final SharedCommentService sharedCommentService;
 
     @Value("${ai.service.url:http://localhost:8000}")
     private String aiServiceUrl;
 
+    // true 이면 동시 요청을 /analyze/batch 로 묶어서 전송
+    @Value("${ai.service.batch.enabled:true}")
+    private boolean batchEnabled;
+
     /**
      * 댓글 분석
      */
@@ -39,15 +48,23 @@ public class AnalysisService {
                 .orElseThrow(() -> new IllegalArgumentException("Comment not found"));
 
         // 사용자 차단 단어 조회
-        List<String> customBlockedWords = blockedWordService.getActiveBlockedWordStrings(userId);
+        BlockedWordDictionary dictionary = blockedWordService.getDictionary(userId);
+
+        // 로컬 사전 분류 → 애매한 댓글만 공용 판정 재사용 또는 AI 서비스 호출 (차단 단어는 사용자별 적용)
+        Map<String, Object> aiResult = scoreText(comment.getContent(), dictionary, comment.getSharedCommentId());
 
-        // AI 서비스 호출 (차단 단어 포함)
-        Map<String, Object> aiResult = callAIService(comment.getContent(), customBlockedWords);
+        return saveAnalysisResult(comment, userId, aiResult);
+    }
 
+    /**
+     * AI 판정 결과로 분석 결과 저장 및 댓글 상태 업데이트
+     * (비동기/병렬 분석 경로에서 이미 받은 판정 결과를 반영할 때도 사용)
+     */
+    public AnalysisResult saveAnalysisResult(Comment comment, Long userId, Map<String, Object> aiResult) {
         // 분석 결과 저장
         AnalysisResult result = AnalysisResult.builder() // No change here as it is AnalysisResult builder, check if
                                                          // fields match
-                .commentId(commentId)
+                .commentId(comment.getCommentId())
                 .userId(userId)
                 .contentUrl(comment.getContentUrl())
                 .author(comment.getAuthorName())
@@ -68,6 +85,11 @@ public class AnalysisService {
                 .analyzedAt(LocalDateTime.now())
                 .build();
 
+        // 이미 결과 행이 있으면 (대체 판정 후 재분석, 다른 경로에서 먼저 분석) 같은 행을 갱신
+        // 동시에 처음 저장하는 경우는 comment_id 유일 제약으로 한쪽만 성공
+        analysisResultRepository.findByCommentId(comment.getCommentId())
+                .ifPresent(existing -> result.setAnalysisId(existing.getAnalysisId()));
+
         AnalysisResult savedResult = analysisResultRepository.save(result);
 
         // 상태 결정 (status 필드 활용)
@@ -76,8 +98,10 @@ public class AnalysisService {
         Boolean isBlocked = (Boolean) aiResult.getOrDefault("is_blocked", false);
 
         // 댓글 상태 업데이트
+        blockedWordService.getDictionary(userId).applyTo(comment);
         comment.setIsAnalyzed(true);
         comment.setIsMalicious(isMalicious || isBlocked); // blocked도 악성으로 처리
+        comment.setNeedsReanalysis(RuleBasedAnalyzer.isFallback(aiResult)); // 대체 판정이면 나중에 재분석
         // comment.setStatus(status);
         comment.setUpdatedAt(LocalDateTime.now());
         commentRepository.save(comment);
@@ -90,30 +114,55 @@ public class AnalysisService {
         return savedResult;
     }
 
+    /**
+     * 로컬 사전 분류 후 애매한 텍스트만 AI 서비스로 전달
+     * AI 판정은 차단 단어 없이 받아 공용 댓글(sharedCommentId)에 저장/재사용하고, 차단 단어 판정만 덧씌움
+     */
+    private Map<String, Object> scoreText(String text, BlockedWordDictionary dictionary, Long sharedCommentId) {
+        Map<String, Object> preFiltered = commentPreFilter.classify(text, dictionary);
+        if (preFiltered != null) {
+            return preFiltered;
+        }
+
+        Map<String, Object> modelVerdict = sharedCommentService.findModelVerdict(sharedCommentId, text);
+        if (modelVerdict == null) {
+            modelVerdict = callAIService(text, List.of());
+            sharedCommentService.saveModelVerdict(sharedCommentId, text, modelVerdict);
+        }
+        return SharedCommentService.applyBlockedWords(text, modelVerdict, dictionary);
+    }
+
     /**
      * AI 서비스 호출 (사용자 차단 단어 포함)
+     * 같은 텍스트 + 같은 차단 단어 조합은 캐시된 판정 결과 재사용
+     * AI 서비스 장애(서킷 오픈/벌크헤드 포화/호출 실패) 시 규칙 기반 대체 판정 반환
      */
     private Map<String, Object> callAIService(String text, List<String> customBlockedWords) {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            Map<String, Object> request = new HashMap<>();
-            request.put("text", text);
-            request.put("language", "ko");
-            request.put("use_dual_model", true);
-            request.put("custom_blocked_words", customBlockedWords);
+        Map<String, Object> cached = aiVerdictCache.get(text, customBlockedWords);
+        if (cached != null) {
+            return cached;
+        }
 
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(request, headers);
+        Map<String, Object> result = aiCircuitBreaker.execute(
+                () -> batchEnabled
+                        ? aiBatchClient.analyze(text, customBlockedWords)
+                        : requestAIService(text, customBlockedWords),
+                () -> ruleBasedAnalyzer.fallback(text, customBlockedWords));
 
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    aiServiceUrl + "/analyze/text",
-                    HttpMethod.POST,
-                    entity,
-                    Map.class);
+        // 대체 판정은 캐시하지 않음 (복구 후 재분석 대상)
+        if (!RuleBasedAnalyzer.isFallback(result)) {
+            aiVerdictCache.put(text, customBlockedWords, result);
+        }
+        return result;
+    }
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> body = response.getBody();
+    /**
+     * /analyze/text 단건 호출
+     */
+    private Map<String, Object> requestAIService(String text, List<String> customBlockedWords) {
+        try {
+            // 응답 시간 기반 타임아웃 + p95 헤지 요청 (ReactiveAIClient)
+            Map<String, Object> body = reactiveAIClient.postAnalyzeText(text, customBlockedWords).block();
             return body != null ? body : Map.of();
 
         } catch (Exception e) {
@@ -195,10 +244,10 @@ public class AnalysisService {
      */
     public Map<String, Object> analyzeText(String text, Long userId) {
         // 사용자 차단 단어 조회
-        List<String> customBlockedWords = blockedWordService.getActiveBlockedWordStrings(userId);
+        BlockedWordDictionary dictionary = blockedWordService.getDictionary(userId);
 
-        // AI 서비스 호출
-        Map<String, Object> aiResult = callAIService(text, customBlockedWords);
+        // 로컬 사전 분류 → AI 서비스 호출
+        Map<String, Object> aiResult = scoreText(text, dictionary, null);
         // 응답에 추가 정보 포함
         aiResult.put("userId", userId);
         aiResult.put("analyzedText", text);
@@ -0,0 +1,277 @@
+// ==================== AnalysisTaskQueue.java ====================
+package com.sns.analyzer.service;
+
+import com.sns.analyzer.entity.AnalysisResult;
+import com.sns.analyzer.entity.AnalysisTask;
+import com.sns.analyzer.entity.Comment;
+import com.sns.analyzer.repository.AnalysisTaskRepository;
+import com.sns.analyzer.repository.CommentBatchRepository;
+import com.sns.analyzer.repository.CommentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * DB 기반 댓글 분석 작업 큐 + 워커 풀
+ * - 댓글 수집 시 작업 등록 → 요청 스레드가 아닌 워커가 분석 (재시작해도 작업 유지)
+ * - 워커는 FOR UPDATE SKIP LOCKED 로 작업을 임대(lease)하고, 처리 중 프로세스가 죽으면 임대 만료 후 재처리
+ * - 임대 주인은 워커 스레드별로 다르고, 완료/재시도는 임대 주인이 그대로일 때만 반영
+ *   (처리 중 임대가 만료돼 다른 워커가 가져간 작업을 지우거나 되돌리지 않음)
+ * - 실패/대체 판정 시 지수 백오프로 재시도, max-attempts 초과 시 FAILED
+ * - 이미 분석된 댓글(요청 경로에서 먼저 분석됨)은 건너뜀
+ * - 수집 파이프라인의 즉시 분석도 같은 작업 행을 먼저 임대한 뒤 분석 (워커와 같은 댓글을 동시에 분석하지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class AnalysisTaskQueue {
+
+    private final AnalysisTaskRepository analysisTaskRepository;
+    private final CommentRepository commentRepository;
+    private final CommentBatchRepository commentBatchRepository;
+    private final AnalysisService analysisService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${analysis.queue.enabled:true}")
+    private boolean enabled;
+
+    @Value("${analysis.queue.workers:4}")
+    private int workerCount;
+
+    @Value("${analysis.queue.claim-size:10}")
+    private int claimSize;
+
+    @Value("${analysis.queue.poll-interval-ms:2000}")
+    private long pollIntervalMs;
+
+    @Value("${analysis.queue.lease-seconds:300}")
+    private long leaseSeconds;
+
+    // 등록 후 첫 처리까지 대기 (요청 경로의 즉시 분석과 겹치지 않도록)
+    @Value("${analysis.queue.initial-delay-seconds:30}")
+    private long initialDelaySeconds;
+
+    @Value("${analysis.queue.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${analysis.queue.backoff-base-seconds:10}")
+    private long backoffBaseSeconds;
+
+    @Value("${analysis.queue.backoff-max-seconds:1800}")
+    private long backoffMaxSeconds;
+
+    private final String workerId = "worker-" + UUID.randomUUID().toString().substring(0, 8);
+    private final String inlineOwner = workerId + "-inline";
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    /**
+     * 분석 작업 등록 (호출자의 트랜잭션에 참여)
+     */
+    public void enqueue(Long commentId, Long userId) {
+        if (!enabled) {
+            return;
+        }
+        analysisTaskRepository.save(AnalysisTask.builder()
+                .commentId(commentId)
+                .userId(userId)
+                .status(AnalysisTask.TaskStatus.PENDING)
+                .nextAttemptAt(LocalDateTime.now().plusSeconds(initialDelaySeconds))
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 분석 작업 일괄 등록 (JDBC 배치, 호출자의 트랜잭션에 참여)
+     */
+    public void enqueueAll(Long userId, List<Long> commentIds) {
+        if (!enabled) {
+            return;
+        }
+        commentBatchRepository.insertAnalysisTasks(userId, commentIds,
+                LocalDateTime.now().plusSeconds(initialDelaySeconds));
+    }
+
+    /**
+     * 요청 경로(수집 파이프라인)에서 바로 분석하기 전에 댓글의 작업 임대
+     * - 워커가 이미 임대했거나 처리해서 작업이 없으면 false → 호출자는 분석하지 않음
+     * - 임대 중 프로세스가 죽으면 임대 만료 후 워커가 다시 처리
+     */
+    public boolean leaseForInline(Long commentId) {
+        if (!enabled) {
+            return true;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return analysisTaskRepository.leasePending(commentId, inlineOwner, now.plusSeconds(leaseSeconds), now) > 0;
+    }
+
+    /**
+     * 즉시 분석 결과 반영 (정상 판정이면 작업 삭제, 대체 판정/실패면 워커가 나중에 재시도)
+     */
+    public void completeInline(Long commentId, AnalysisResult result, String error) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (result != null && !RuleBasedAnalyzer.FALLBACK_MODEL_VERSION.equals(result.getAiModelVersion())) {
+                analysisTaskRepository.deleteLeased(commentId, inlineOwner);
+            } else {
+                LocalDateTime now = LocalDateTime.now();
+                analysisTaskRepository.releaseLeased(commentId, inlineOwner, now.plusSeconds(backoffBaseSeconds),
+                        result != null ? "AI service unavailable (rule-based fallback)" : error, now);
+            }
+        } catch (Exception e) {
+            // 임대가 만료되면 워커가 다시 처리
+            System.err.println("[ERROR] Failed to complete inline analysis task for comment " + commentId + ": "
+                    + e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            Thread t = new Thread(this::workerLoop, "analysis-task-" + (i + 1));
+            t.setDaemon(true);
+            t.start();
+            workers.add(t);
+        }
+        System.out.println("[DEBUG] Analysis task queue started: " + workerCount + " workers (" + workerId + ")");
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        for (Thread t : workers) {
+            t.interrupt();
+        }
+    }
+
+    /**
+     * 큐 상태 (상태별 작업 수)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("workers", workerCount);
+        for (AnalysisTask.TaskStatus status : AnalysisTask.TaskStatus.values()) {
+            stats.put(status.name().toLowerCase(), analysisTaskRepository.countByStatus(status));
+        }
+        return stats;
+    }
+
+    private void workerLoop() {
+        String owner = workerId + "-" + Thread.currentThread().getName();
+        while (running) {
+            try {
+                List<AnalysisTask> claimed = claim(owner);
+                if (claimed.isEmpty()) {
+                    Thread.sleep(pollIntervalMs);
+                    continue;
+                }
+                for (AnalysisTask task : claimed) {
+                    process(task, owner);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                System.err.println("[ERROR] Analysis task worker error: " + e.getMessage());
+                try {
+                    Thread.sleep(pollIntervalMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 작업 임대 (짧은 트랜잭션 안에서 잠금 → 상태 변경 → 커밋)
+     */
+    private List<AnalysisTask> claim(String owner) {
+        List<AnalysisTask> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<AnalysisTask> tasks = analysisTaskRepository.findClaimable(now, claimSize);
+            for (AnalysisTask task : tasks) {
+                task.setStatus(AnalysisTask.TaskStatus.LEASED);
+                task.setLeaseOwner(owner);
+                task.setLeaseExpiresAt(now.plusSeconds(leaseSeconds));
+                task.setAttempts(task.getAttempts() + 1); // 임대 = 시도 1회 (처리 중 중단도 시도로 집계)
+            }
+            return tasks;
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    private void process(AnalysisTask task, String owner) {
+        Optional<Comment> comment = commentRepository.findById(task.getCommentId());
+
+        // 삭제된 댓글이거나 이미 정상 분석된 댓글은 작업만 제거
+        if (comment.isEmpty()
+                || (Boolean.TRUE.equals(comment.get().getIsAnalyzed())
+                        && !Boolean.TRUE.equals(comment.get().getNeedsReanalysis()))) {
+            complete(task, owner);
+            return;
+        }
+
+        try {
+            AnalysisResult result = analysisService.analyzeComment(task.getCommentId(), task.getUserId());
+            if (RuleBasedAnalyzer.FALLBACK_MODEL_VERSION.equals(result.getAiModelVersion())) {
+                // AI 서비스 장애로 대체 판정 → 나중에 다시 분석
+                retryLater(task, owner, "AI service unavailable (rule-based fallback)");
+            } else {
+                complete(task, owner);
+            }
+        } catch (Exception e) {
+            retryLater(task, owner, e.getMessage());
+        }
+    }
+
+    private void complete(AnalysisTask task, String owner) {
+        if (analysisTaskRepository.deleteClaimed(task.getTaskId(), owner) == 0) {
+            System.out.println("[DEBUG] Analysis task " + task.getTaskId() + " lease lost before completion");
+        }
+    }
+
+    /**
+     * 지수 백오프 재시도 (최대 시도 횟수 초과 시 FAILED)
+     */
+    private void retryLater(AnalysisTask task, String owner, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        AnalysisTask.TaskStatus status;
+        LocalDateTime nextAttemptAt = task.getNextAttemptAt();
+        if (task.getAttempts() >= maxAttempts) {
+            status = AnalysisTask.TaskStatus.FAILED;
+        } else {
+            long backoff = Math.min(backoffMaxSeconds,
+                    backoffBaseSeconds << Math.min(task.getAttempts() - 1, 20));
+            long jitter = ThreadLocalRandom.current().nextLong(backoff / 4 + 1);
+            status = AnalysisTask.TaskStatus.PENDING;
+            nextAttemptAt = now.plusSeconds(backoff + jitter);
+        }
+        if (analysisTaskRepository.finishClaimed(task.getTaskId(), owner, status.name(), nextAttemptAt, error,
+                now) == 0) {
+            System.out.println("[DEBUG] Analysis task " + task.getTaskId() + " lease lost before retry");
+        } else if (status == AnalysisTask.TaskStatus.FAILED) {
+            System.err.println("[ERROR] Analysis task " + task.getTaskId() + " failed after "
+                    + task.getAttempts() + " attempts: " + error);
+        }
+    }
+}
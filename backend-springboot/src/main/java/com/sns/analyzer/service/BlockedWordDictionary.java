@@ -0,0 +1,117 @@
+// ==================== BlockedWordDictionary.java ====================
+package com.sns.analyzer.service;
+
+import com.sns.analyzer.entity.BlockedWord;
+import com.sns.analyzer.entity.Comment;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 사용자 1명에게 적용되는 차단 단어 사전 = 전역 매처 + 사용자 매처
+ * - 전역 매처는 프로세스에 하나만 두고 모든 사용자가 공유 (사용자 수와 무관하게 메모리 일정)
+ * - 사용자 매처에는 사용자가 직접 등록한 단어만 있음
+ * - 댓글 문자열은 한 번만 훑으며 두 오토마톤을 함께 진행 (정규화도 한 번)
+ * - 사용자 단어가 전역 단어보다 우선 (firstMatch), findAll 은 사용자 단어 → 전역 단어 순서
+ */
+public final class BlockedWordDictionary {
+
+    private final BlockedWordMatcher global;
+    private final BlockedWordMatcher user;
+
+    public BlockedWordDictionary(BlockedWordMatcher global, BlockedWordMatcher user) {
+        if (!global.isEmpty() && !user.isEmpty() && global.isNormalize() != user.isNormalize()) {
+            throw new IllegalArgumentException("전역/사용자 매처의 정규화 설정이 다릅니다.");
+        }
+        this.global = global;
+        this.user = user;
+    }
+
+    public boolean isEmpty() {
+        return global.isEmpty() && user.isEmpty();
+    }
+
+    /**
+     * 포함된 단어 중 우선순위가 가장 높은 단어 (사용자 단어 목록 순서 → 전역 단어 목록 순서, 없으면 null)
+     */
+    public BlockedWord firstMatch(String text) {
+        if (text == null || isEmpty()) {
+            return null;
+        }
+        if (global.isEmpty()) {
+            return user.firstMatch(text);
+        }
+        if (user.isEmpty()) {
+            return global.firstMatch(text);
+        }
+        BlockedWordMatcher.Scan userScan = user.newScan(false);
+        BlockedWordMatcher.Scan globalScan = global.newScan(false);
+        BlockedWordMatcher.scan(text, user.isNormalize(), ch -> {
+            globalScan.accept(ch);
+            return userScan.accept(ch); // 사용자 첫 단어를 찾으면 전역 결과와 무관하게 종료
+        });
+        BlockedWord matched = userScan.first();
+        return matched != null ? matched : globalScan.first();
+    }
+
+    /**
+     * 포함된 모든 단어 (사용자 단어 → 전역 단어, 각 목록 순서)
+     */
+    public List<BlockedWord> findAll(String text) {
+        if (text == null || isEmpty()) {
+            return List.of();
+        }
+        if (global.isEmpty()) {
+            return user.findAll(text);
+        }
+        if (user.isEmpty()) {
+            return global.findAll(text);
+        }
+        BlockedWordMatcher.Scan userScan = user.newScan(true);
+        BlockedWordMatcher.Scan globalScan = global.newScan(true);
+        BlockedWordMatcher.scan(text, user.isNormalize(), ch -> {
+            userScan.accept(ch);
+            return globalScan.accept(ch);
+        });
+        List<BlockedWord> matched = new ArrayList<>();
+        userScan.collect(matched);
+        globalScan.collect(matched);
+        return matched.isEmpty() ? List.of() : matched;
+    }
+
+    /**
+     * 포함된 모든 단어 문자열 (전역/사용자 목록에 같은 단어가 있으면 한 번만)
+     */
+    public List<String> findAllWords(String text) {
+        List<BlockedWord> matched = findAll(text);
+        if (matched.isEmpty()) {
+            return List.of();
+        }
+        Set<String> words = new LinkedHashSet<>();
+        for (BlockedWord word : matched) {
+            words.add(word.getWord());
+        }
+        return List.copyOf(words);
+    }
+
+    /**
+     * 댓글의 차단 단어 매칭 결과 (containsBlockedWord / matchedBlockedWord) 갱신
+     *
+     * @return 값이 바뀌었으면 true
+     */
+    public boolean applyTo(Comment comment) {
+        BlockedWord word = firstMatch(comment.getContent());
+        boolean contains = word != null;
+        String matched = contains ? word.getWord() : null;
+        if (Boolean.valueOf(contains).equals(comment.getContainsBlockedWord())
+                && Objects.equals(matched, comment.getMatchedBlockedWord())) {
+            return false;
+        }
+        comment.setContainsBlockedWord(contains);
+        comment.setMatchedBlockedWord(matched);
+        return true;
+    }
+}
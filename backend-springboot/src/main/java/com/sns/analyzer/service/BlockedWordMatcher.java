@@ -0,0 +1,285 @@
+// ==================== BlockedWordMatcher.java ====================
+package com.sns.analyzer.service;
+
+import com.sns.analyzer.entity.BlockedWord;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * 차단 단어 다중 패턴 매처 (Aho-Corasick)
+ * - 단어 목록으로 오토마톤을 한 번 만들고, 댓글마다 문자열을 한 번만 훑어서 포함된 단어를 찾음 (단어 수와 무관)
+ * - 대소문자 무시 (문자 단위 소문자 변환, 댓글 문자열을 새로 만들지 않음)
+ * - normalize 사용 시 단어와 댓글 모두 BlockedWordNormalizer 를 거친 문자로 비교 (띄어쓰기/기호/자모 분리/유사 문자 우회 대응)
+ * - 생성 후 변경 불가 → 여러 스레드에서 공유
+ * - 결과 순서는 단어 목록 순서 (기존 contains 반복과 같은 단어를 먼저 반환)
+ */
+public final class BlockedWordMatcher {
+
+    private static final int NONE = Integer.MAX_VALUE;
+
+    private static final BlockedWordMatcher EMPTY = new BlockedWordMatcher(List.of(), false);
+
+    private final List<BlockedWord> words;
+    private final boolean normalize;
+
+    // 상태별 전이 (문자 오름차순 정렬, 이진 탐색)
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    // 상태에서 끝나는 단어 번호
+    private final int[][] outputs;
+    // 실패 링크를 따라가며 처음 만나는 출력 있는 상태 (-1: 없음)
+    private final int[] dictLink;
+    // 상태에서 끝나는 모든 단어(실패 링크 포함) 중 가장 앞 번호
+    private final int[] minOutput;
+
+    private BlockedWordMatcher(List<BlockedWord> words, boolean normalize) {
+        this.words = List.copyOf(words);
+        this.normalize = normalize;
+
+        // 1. 트라이 구성
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<List<Integer>> ends = new ArrayList<>();
+        children.add(new TreeMap<>());
+        ends.add(new ArrayList<>());
+        for (int id = 0; id < this.words.size(); id++) {
+            String word = this.words.get(id).getWord();
+            if (word != null && normalize) {
+                word = BlockedWordNormalizer.normalize(word);
+            }
+            if (word == null || word.isEmpty()) {
+                continue; // 기호로만 된 단어는 정규화 후 비어 있음
+            }
+            int state = 0;
+            for (int i = 0; i < word.length(); i++) {
+                char ch = Character.toLowerCase(word.charAt(i));
+                Integer next = children.get(state).get(ch);
+                if (next == null) {
+                    next = children.size();
+                    children.get(state).put(ch, next);
+                    children.add(new TreeMap<>());
+                    ends.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            ends.get(state).add(id);
+        }
+
+        int size = children.size();
+        edgeChars = new char[size][];
+        edgeTargets = new int[size][];
+        outputs = new int[size][];
+        for (int state = 0; state < size; state++) {
+            TreeMap<Character, Integer> edges = children.get(state);
+            edgeChars[state] = new char[edges.size()];
+            edgeTargets[state] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[state][i] = edge.getKey();
+                edgeTargets[state][i] = edge.getValue();
+                i++;
+            }
+            outputs[state] = ends.get(state).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        // 2. 실패 링크 (너비 우선)
+        fail = new int[size];
+        dictLink = new int[size];
+        minOutput = new int[size];
+        dictLink[0] = -1;
+        minOutput[0] = NONE;
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[0]) {
+            fail[child] = 0;
+            dictLink[child] = -1;
+            minOutput[child] = ownMin(child);
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < edgeChars[state].length; i++) {
+                char ch = edgeChars[state][i];
+                int child = edgeTargets[state][i];
+                int f = fail[state];
+                while (f != 0 && next(f, ch) < 0) {
+                    f = fail[f];
+                }
+                int target = next(f, ch);
+                fail[child] = target >= 0 ? target : 0;
+                int failState = fail[child];
+                dictLink[child] = outputs[failState].length > 0 ? failState : dictLink[failState];
+                minOutput[child] = Math.min(ownMin(child), minOutput[failState]);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * 단어 목록으로 매처 생성 (빈 단어는 무시)
+     */
+    public static BlockedWordMatcher compile(List<BlockedWord> words) {
+        return compile(words, false);
+    }
+
+    /**
+     * 단어 목록으로 매처 생성 (normalize: 우회 표기 정규화 후 비교)
+     */
+    public static BlockedWordMatcher compile(List<BlockedWord> words, boolean normalize) {
+        return words.isEmpty() ? EMPTY : new BlockedWordMatcher(words, normalize);
+    }
+
+    public static BlockedWordMatcher empty() {
+        return EMPTY;
+    }
+
+    public boolean isEmpty() {
+        return edgeChars[0].length == 0;
+    }
+
+    /**
+     * 매처를 만든 단어 목록
+     */
+    public List<BlockedWord> getWords() {
+        return words;
+    }
+
+    /**
+     * 포함된 단어 중 목록에서 가장 앞의 단어 (없으면 null)
+     */
+    public BlockedWord firstMatch(String text) {
+        if (text == null || isEmpty()) {
+            return null;
+        }
+        Scan scan = newScan(false);
+        scan(text, normalize, scan);
+        return scan.first();
+    }
+
+    /**
+     * 포함된 모든 단어 (목록 순서, 중복 없음)
+     */
+    public List<BlockedWord> findAll(String text) {
+        if (text == null || isEmpty()) {
+            return List.of();
+        }
+        Scan scan = newScan(true);
+        scan(text, normalize, scan);
+        List<BlockedWord> matched = new ArrayList<>();
+        scan.collect(matched);
+        return matched.isEmpty() ? List.of() : matched;
+    }
+
+    /**
+     * 포함된 모든 단어 문자열 (목록 순서)
+     */
+    public List<String> findAllWords(String text) {
+        return findAll(text).stream().map(BlockedWord::getWord).toList();
+    }
+
+    boolean isNormalize() {
+        return normalize;
+    }
+
+    Scan newScan(boolean collectAll) {
+        return new Scan(collectAll);
+    }
+
+    /**
+     * 댓글 문자를 (정규화 후) 하나씩 sink 로 전달, sink 가 false 를 반환하면 중단
+     */
+    static void scan(String text, boolean normalize, BlockedWordNormalizer.Sink sink) {
+        if (normalize) {
+            BlockedWordNormalizer normalizer = new BlockedWordNormalizer(sink);
+            if (normalizer.feed(text)) {
+                normalizer.finish();
+            }
+            return;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (!sink.accept(Character.toLowerCase(text.charAt(i)))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 댓글 1건 탐색 상태 (문자를 하나씩 받아 오토마톤 진행)
+     */
+    final class Scan implements BlockedWordNormalizer.Sink {
+
+        private final boolean collectAll;
+        private int state;
+        private int best = NONE;
+        private BitSet found;
+
+        private Scan(boolean collectAll) {
+            this.collectAll = collectAll;
+        }
+
+        @Override
+        public boolean accept(char ch) {
+            state = step(state, ch);
+            if (!collectAll) {
+                if (minOutput[state] < best) {
+                    best = minOutput[state];
+                }
+                return best != 0; // 목록 첫 단어면 더 볼 필요 없음
+            }
+            for (int s = outputs[state].length > 0 ? state : dictLink[state]; s > 0; s = dictLink[s]) {
+                if (found == null) {
+                    found = new BitSet(words.size());
+                }
+                for (int id : outputs[s]) {
+                    found.set(id);
+                }
+            }
+            return true;
+        }
+
+        BlockedWord first() {
+            return best == NONE ? null : words.get(best);
+        }
+
+        void collect(List<BlockedWord> matched) {
+            if (found == null) {
+                return;
+            }
+            for (int id = found.nextSetBit(0); id >= 0; id = found.nextSetBit(id + 1)) {
+                matched.add(words.get(id));
+            }
+        }
+    }
+
+    private int step(int state, char ch) {
+        while (true) {
+            int target = next(state, ch);
+            if (target >= 0) {
+                return target;
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = fail[state];
+        }
+    }
+
+    private int next(int state, char ch) {
+        int i = Arrays.binarySearch(edgeChars[state], ch);
+        return i >= 0 ? edgeTargets[state][i] : -1;
+    }
+
+    private int ownMin(int state) {
+        int min = NONE;
+        for (int id : outputs[state]) {
+            min = Math.min(min, id);
+        }
+        return min;
+    }
+}
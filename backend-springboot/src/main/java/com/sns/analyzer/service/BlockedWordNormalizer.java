@@ -0,0 +1,392 @@
+// ==================== BlockedWordNormalizer.java ====================
+package com.sns.analyzer.service;
+
+import java.util.Arrays;
+
+/**
+ * 차단 단어 매칭용 텍스트 정규화 (우회 표기 대응)
+ * - 구분자(공백, 문장부호, 수학/수정 기호, 보이지 않는 문자, 결합 부호, 한글 채움 문자)는 한 글자 토큰 사이에서만 제거
+ *   ("씨 발", "ㅅ.ㅂ" → 붙임), 여러 글자 토큰과 맞닿으면 단어 경계(BOUNDARY) 하나로 전달 → 단어가 경계를 넘어 매칭되지 않음
+ *   ("아저씨 발가락" 은 "씨발" 에 매칭되지 않음). 토큰 길이는 모음/종성 자모를 빼고 셈 ("ㅅㅣ" 는 한 글자)
+ * - 유사 문자 통일: 전각 영문/숫자, 키릴/그리스 문자 중 라틴 문자와 같은 모양, @ → a, $ → s, 人 → ㅅ, 口 → ㅁ, 반각 자모
+ * - 자모 분리 대응: 음절을 초성/중성/종성으로 분해해 두고, 앞뒤 자모와 이어서 음절로 다시 조합
+ *   ("ㅅㅣㅂㅏㄹ", "시바ㄹ", 조합형(NFD) 자모 → "시발")
+ * - 분해된 자모를 그대로 비교하지 않는 이유: 음절 경계가 사라져 "발" 이 "바람", "ㅂㅅ" 이 "밥사" 에 매칭됨
+ * - 문자를 한 번만 훑으며 Sink 로 바로 전달 (중간 문자열 없음, 크기 3 이하의 대기 음절 상태만 유지)
+ * - 스트림 1개(댓글 1건)당 인스턴스 1개, 스레드 안전하지 않음
+ */
+public final class BlockedWordNormalizer {
+
+    // 정규화 규칙 버전 (규칙을 바꾸면 올림 → 시작 시 저장된 댓글 매칭 결과 전체 재계산)
+    public static final int VERSION = 2;
+
+    // 단어 경계 (단어 등록 시에도 같은 규칙으로 들어가므로 공백이 있는 단어는 경계까지 같아야 매칭)
+    public static final char BOUNDARY = ' ';
+
+    /**
+     * 정규화된 문자 수신 (false 반환 시 중단)
+     */
+    public interface Sink {
+        boolean accept(char ch);
+    }
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int VOWEL_COUNT = 21;
+    private static final int TAIL_COUNT = 28;
+
+    private static final char COMPAT_FIRST = 0x3131;
+    private static final char COMPAT_CONSONANT_LAST = 0x314E;
+    private static final char COMPAT_VOWEL_FIRST = 0x314F;
+    private static final char COMPAT_LAST = 0x3163;
+
+    // 초성 순서 (ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ)
+    private static final char[] LEAD_COMPAT = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    // 종성 순서 (0 = 없음)
+    private static final char[] TAIL_COMPAT = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ".toCharArray();
+    // 반각 자모 (U+FFA1 ~ U+FFDC) → 호환 자모, 0 = 빈 자리
+    private static final char[] HALFWIDTH_COMPAT = (
+            "ㄱㄲㄳㄴㄵㄶㄷㄸㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅃㅄㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ\0\0\0"
+            + "ㅏㅐㅑㅒㅓㅔ\0\0ㅕㅖㅗㅘㅙㅚ\0\0ㅛㅜㅝㅞㅟㅠ\0\0ㅡㅢㅣ").toCharArray();
+
+    // 호환 자모 → 초성/종성 번호 (-1 = 불가)
+    private static final int[] LEAD_INDEX = new int[COMPAT_CONSONANT_LAST - COMPAT_FIRST + 1];
+    private static final int[] TAIL_INDEX = new int[COMPAT_CONSONANT_LAST - COMPAT_FIRST + 1];
+
+    static {
+        Arrays.fill(LEAD_INDEX, -1);
+        Arrays.fill(TAIL_INDEX, -1);
+        for (int i = 0; i < LEAD_COMPAT.length; i++) {
+            LEAD_INDEX[LEAD_COMPAT[i] - COMPAT_FIRST] = i;
+        }
+        for (int i = 1; i < TAIL_COMPAT.length; i++) {
+            TAIL_INDEX[TAIL_COMPAT[i] - COMPAT_FIRST] = i;
+        }
+    }
+
+    private final Sink sink;
+
+    // 조합 중인 음절 (lead < 0 이면 없음, vowel < 0 이면 초성만, tail 0 이면 받침 없음)
+    private int lead = -1;
+    private int vowel = -1;
+    private int tail;
+    private boolean stopped;
+
+    // 현재 토큰(구분자 없이 이어진 글자) 길이
+    private int tokenLength;
+    // 한 글자 토큰 뒤의 구분자 (다음 토큰도 한 글자면 붙임)
+    private boolean singleGap;
+    // 여러 글자 토큰 뒤의 구분자 (다음 글자 앞에 경계 전달)
+    private boolean boundaryGap;
+    // singleGap 뒤 다음 토큰 글자를 길이가 정해질 때까지 보류 중
+    private boolean deciding;
+    private final StringBuilder held = new StringBuilder(4);
+
+    public BlockedWordNormalizer(Sink sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * 문자열 전체 정규화 (차단 단어 등록 시)
+     */
+    public static String normalize(CharSequence text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        BlockedWordNormalizer normalizer = new BlockedWordNormalizer(ch -> {
+            normalized.append(ch);
+            return true;
+        });
+        normalizer.feed(text);
+        normalizer.finish();
+        return normalized.toString();
+    }
+
+    /**
+     * 텍스트 입력 (Sink 가 중단하면 false)
+     */
+    public boolean feed(CharSequence text) {
+        int length = text.length();
+        for (int i = 0; i < length && !stopped; i++) {
+            char raw = text.charAt(i);
+            char ch = fold(raw);
+            if (ch == 0) {
+                separator();
+            } else {
+                letter(ch, countsAsLetter(raw, ch));
+            }
+        }
+        return !stopped;
+    }
+
+    /**
+     * 입력 종료 (보류 중인 글자와 조합 중인 음절 내보냄)
+     */
+    public void finish() {
+        if (deciding) {
+            release();
+        }
+        flush();
+    }
+
+    private void separator() {
+        if (deciding) {
+            release(); // 한 글자 토큰끼리 붙임
+        }
+        if (tokenLength == 1) {
+            singleGap = true;
+        } else if (tokenLength > 1) {
+            boundaryGap = true;
+        }
+        tokenLength = 0;
+    }
+
+    private void letter(char ch, boolean counts) {
+        if (deciding) {
+            if (counts && tokenLength >= 1) {
+                // 다음 토큰이 두 글자 이상 → 경계
+                boundary();
+                release();
+                compose(ch);
+                tokenLength++;
+                return;
+            }
+            held.append(ch);
+            tokenLength += counts ? 1 : 0;
+            return;
+        }
+        if (singleGap) {
+            singleGap = false;
+            deciding = true;
+            held.append(ch);
+            tokenLength = counts ? 1 : 0;
+            return;
+        }
+        if (boundaryGap) {
+            boundaryGap = false;
+            boundary();
+        }
+        compose(ch);
+        tokenLength += counts ? 1 : 0;
+    }
+
+    private void release() {
+        deciding = false;
+        for (int i = 0; i < held.length(); i++) {
+            compose(held.charAt(i));
+        }
+        held.setLength(0);
+    }
+
+    private void boundary() {
+        flush();
+        emit(BOUNDARY);
+    }
+
+    /**
+     * 토큰 길이에 세는 글자인지 (모음 자모, 조합형 종성은 앞 글자에 붙으므로 제외)
+     */
+    private static boolean countsAsLetter(char raw, char folded) {
+        if (raw >= 0x1160 && raw <= 0x11FF) {
+            return false;
+        }
+        return folded < COMPAT_VOWEL_FIRST || folded > COMPAT_LAST;
+    }
+
+    /**
+     * 유사 문자 통일 + 소문자 변환, 구분자면 0
+     */
+    static char fold(char ch) {
+        if (ch < 0x80) {
+            if (ch >= 'A' && ch <= 'Z') {
+                return (char) (ch + ('a' - 'A'));
+            }
+            if ((ch >= 'a' && ch <= 'z') || (ch >= '0' && ch <= '9')) {
+                return ch;
+            }
+            if (ch == '@') {
+                return 'a';
+            }
+            if (ch == '$') {
+                return 's';
+            }
+        } else if (ch >= 0xFF01 && ch <= 0xFF5E) {
+            // 전각 ASCII
+            return fold((char) (ch - 0xFEE0));
+        } else if (ch >= 0xFFA1 && ch <= 0xFFDC) {
+            return HALFWIDTH_COMPAT[ch - 0xFFA1];
+        } else if (ch >= 0x1100 && ch <= 0x11FF) {
+            return conjoiningToCompat(ch);
+        } else {
+            char folded = homoglyph(ch);
+            if (folded != 0) {
+                return folded;
+            }
+        }
+        return isSeparator(ch) ? 0 : Character.toLowerCase(ch);
+    }
+
+    /**
+     * 라틴 문자와 모양이 같은 문자, 자음과 모양이 같은 한자
+     */
+    private static char homoglyph(char ch) {
+        switch (ch) {
+            // 키릴 문자
+            case 'а': case 'А': return 'a';
+            case 'в': case 'В': return 'b';
+            case 'е': case 'Е': case 'ё': case 'Ё': return 'e';
+            case 'һ': case 'Һ': case 'н': case 'Н': return 'h';
+            case 'і': case 'І': return 'i';
+            case 'ј': case 'Ј': return 'j';
+            case 'к': case 'К': return 'k';
+            case 'м': case 'М': return 'm';
+            case 'о': case 'О': return 'o';
+            case 'р': case 'Р': return 'p';
+            case 'ѕ': case 'Ѕ': return 's';
+            case 'т': case 'Т': return 't';
+            case 'с': case 'С': return 'c';
+            case 'у': case 'У': return 'y';
+            case 'х': case 'Х': return 'x';
+            // 그리스 문자
+            case 'α': case 'Α': return 'a';
+            case 'Β': return 'b';
+            case 'ε': case 'Ε': return 'e';
+            case 'Ζ': return 'z';
+            case 'Η': return 'h';
+            case 'ι': case 'Ι': return 'i';
+            case 'κ': case 'Κ': return 'k';
+            case 'Μ': return 'm';
+            case 'ν': case 'Ν': return 'n';
+            case 'ο': case 'Ο': return 'o';
+            case 'ρ': case 'Ρ': return 'p';
+            case 'τ': case 'Τ': return 't';
+            case 'υ': case 'Υ': return 'y';
+            case 'χ': case 'Χ': return 'x';
+            // 자음 모양 한자
+            case '人': return 'ㅅ';
+            case '口': return 'ㅁ';
+            default: return 0;
+        }
+    }
+
+    /**
+     * 조합형 자모 (U+1100 ~ U+11FF) → 호환 자모 (현대 한글 외 자모는 그대로)
+     */
+    private static char conjoiningToCompat(char ch) {
+        if (ch <= 0x1112) {
+            return LEAD_COMPAT[ch - 0x1100];
+        }
+        if (ch == 0x115F || ch == 0x1160) {
+            return 0; // 채움 문자
+        }
+        if (ch >= 0x1161 && ch <= 0x1175) {
+            return (char) (COMPAT_VOWEL_FIRST + (ch - 0x1161));
+        }
+        if (ch >= 0x11A8 && ch <= 0x11C2) {
+            return TAIL_COMPAT[ch - 0x11A8 + 1];
+        }
+        return ch;
+    }
+
+    private static boolean isSeparator(char ch) {
+        if (ch == 0x3164) {
+            return true; // 한글 채움 문자 (보이지 않는 공백으로 쓰임)
+        }
+        switch (Character.getType(ch)) {
+            case Character.SPACE_SEPARATOR:
+            case Character.LINE_SEPARATOR:
+            case Character.PARAGRAPH_SEPARATOR:
+            case Character.CONTROL:
+            case Character.FORMAT:
+            case Character.NON_SPACING_MARK:
+            case Character.ENCLOSING_MARK:
+            case Character.CONNECTOR_PUNCTUATION:
+            case Character.DASH_PUNCTUATION:
+            case Character.START_PUNCTUATION:
+            case Character.END_PUNCTUATION:
+            case Character.INITIAL_QUOTE_PUNCTUATION:
+            case Character.FINAL_QUOTE_PUNCTUATION:
+            case Character.OTHER_PUNCTUATION:
+            case Character.MATH_SYMBOL:
+            case Character.MODIFIER_SYMBOL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 자모 → 음절 조합
+     */
+    private void compose(char ch) {
+        if (ch >= SYLLABLE_BASE && ch <= SYLLABLE_LAST) {
+            int offset = ch - SYLLABLE_BASE;
+            flush();
+            if (offset % TAIL_COUNT == 0) {
+                // 받침 없는 음절은 뒤따르는 자음을 받침으로 받을 수 있음 ("바ㄹ")
+                lead = offset / (VOWEL_COUNT * TAIL_COUNT);
+                vowel = (offset / TAIL_COUNT) % VOWEL_COUNT;
+            } else {
+                emit(ch);
+            }
+            return;
+        }
+        if (ch < COMPAT_FIRST || ch > COMPAT_LAST) {
+            flush();
+            emit(ch);
+            return;
+        }
+
+        if (ch >= COMPAT_VOWEL_FIRST) {
+            int v = ch - COMPAT_VOWEL_FIRST;
+            if (lead >= 0 && vowel < 0) {
+                vowel = v;
+                return;
+            }
+            if (lead >= 0 && tail != 0) {
+                // 받침이 다음 음절의 초성 ("바ㄹㅏ" → "바라")
+                int nextLead = LEAD_INDEX[TAIL_COMPAT[tail] - COMPAT_FIRST];
+                if (nextLead >= 0) {
+                    tail = 0;
+                    flush();
+                    lead = nextLead;
+                    vowel = v;
+                    return;
+                }
+            }
+            flush();
+            emit(ch);
+            return;
+        }
+
+        int index = ch - COMPAT_FIRST;
+        if (lead >= 0 && vowel >= 0 && tail == 0 && TAIL_INDEX[index] > 0) {
+            tail = TAIL_INDEX[index];
+            return;
+        }
+        flush();
+        if (LEAD_INDEX[index] >= 0) {
+            lead = LEAD_INDEX[index];
+        } else {
+            emit(ch); // 겹받침 자모 단독
+        }
+    }
+
+    private void flush() {
+        if (lead < 0) {
+            return;
+        }
+        if (vowel < 0) {
+            emit(LEAD_COMPAT[lead]);
+        } else {
+            emit((char) (SYLLABLE_BASE + (lead * VOWEL_COUNT + vowel) * TAIL_COUNT + tail));
+        }
+        lead = -1;
+        vowel = -1;
+        tail = 0;
+    }
+
+    private void emit(char ch) {
+        if (!stopped && !sink.accept(ch)) {
+            stopped = true;
+        }
+    }
+}
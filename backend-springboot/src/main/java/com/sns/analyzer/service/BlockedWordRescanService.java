@@ -0,0 +1,175 @@
+// ==================== BlockedWordRescanService.java ====================
+package com.sns.analyzer.service;
+
+import com.sns.analyzer.entity.Comment;
+import com.sns.analyzer.entity.SystemSetting;
+import com.sns.analyzer.repository.CommentBatchRepository;
+import com.sns.analyzer.repository.SystemSettingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 차단 단어 목록이 바뀌면 저장된 댓글의 매칭 결과(contains_blocked_word / matched_blocked_word) 재계산
+ * - 사용자 단어 변경 → 그 사용자 댓글만, 전역 단어 변경 → 전체 댓글
+ * - comment_id 오름차순 chunk 로 읽고 결과가 바뀐 행만 배치 UPDATE (chunk 마다 자동 커밋)
+ * - 대기 중인 재계산이 있으면 새로 등록하지 않음 (연속 변경은 한 번으로 합침)
+ * - 재계산이 끝나기 전까지 목록 조회의 차단 단어 필터는 이전 목록 기준일 수 있음
+ * - 시작 시 저장된 매칭 기준(정규화 버전 + 설정)이 현재와 다르면 전체 재계산 (기존 행 채우기),
+ *   끝까지 성공해야 기준 값을 갱신 (실패하면 다음 시작 때 다시)
+ */
+@Service
+@RequiredArgsConstructor
+public class BlockedWordRescanService {
+
+    // 전체 사용자 재계산 대기 키
+    private static final long ALL_USERS = -1L;
+
+    // 저장된 매칭 결과를 계산한 기준 (system_settings 키)
+    static final String MATCH_VERSION_KEY = "blocked-word.match-version";
+
+    private final CommentBatchRepository commentBatchRepository;
+    private final BlockedWordService blockedWordService;
+    private final ExecutorService blockedWordExecutor;
+    private final SystemSettingRepository systemSettingRepository;
+
+    @Value("${blocked-word.rescan.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${blocked-word.rescan.backfill-on-start:true}")
+    private boolean backfillOnStart;
+
+    @Value("${blocked-word.normalize.enabled:true}")
+    private boolean normalizeEnabled;
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong rescans = new AtomicLong();
+    private final AtomicLong scannedComments = new AtomicLong();
+    private final AtomicLong updatedComments = new AtomicLong();
+
+    // BlockedWordService 가 커밋 후 매처를 바꾼 다음 발행하므로 바로 등록
+    @EventListener
+    public void onBlockedWordsChanged(BlockedWordService.BlockedWordsChangedEvent event) {
+        schedule(event.userId());
+    }
+
+    /**
+     * 시작 시 저장된 매칭 기준이 현재와 다르면 전체 재계산 (기준 값이 없던 기존 행 포함)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfOutdated() {
+        if (!backfillOnStart) {
+            return;
+        }
+        String version = "normalizer-v" + BlockedWordNormalizer.VERSION + (normalizeEnabled ? "" : "-raw");
+        String stored = systemSettingRepository.findById(MATCH_VERSION_KEY)
+                .map(SystemSetting::getSettingValue)
+                .orElse(null);
+        if (version.equals(stored)) {
+            return;
+        }
+        System.out.println("[DEBUG] Blocked word match version changed (" + stored + " -> " + version
+                + "), rescanning all comments");
+        schedule(null, () -> systemSettingRepository.save(
+                new SystemSetting(MATCH_VERSION_KEY, version, LocalDateTime.now())));
+    }
+
+    /**
+     * 재계산 등록 (userId 가 null 이면 전체 사용자)
+     */
+    public void schedule(Long userId) {
+        schedule(userId, null);
+    }
+
+    /**
+     * 재계산 등록, 끝까지 성공하면 onSuccess 실행 (같은 대상이 이미 대기 중이면 등록하지 않음)
+     */
+    private void schedule(Long userId, Runnable onSuccess) {
+        long key = userId != null ? userId : ALL_USERS;
+        if (!pending.add(key)) {
+            return;
+        }
+        try {
+            blockedWordExecutor.execute(() -> {
+                pending.remove(key);
+                if (rescan(userId) && onSuccess != null) {
+                    try {
+                        onSuccess.run();
+                    } catch (Exception e) {
+                        System.err.println("[ERROR] Blocked word rescan follow-up failed: " + e.getMessage());
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(key);
+            System.err.println("[ERROR] Blocked word rescan rejected for user " + userId + ": " + e.getMessage());
+        }
+    }
+
+    private boolean rescan(Long userId) {
+        long start = System.currentTimeMillis();
+        long scanned = 0;
+        long updated = 0;
+        // 전체 재계산에서는 사용자별 사전을 한 번만 가져옴
+        Map<Long, BlockedWordDictionary> dictionaries = new HashMap<>();
+        try {
+            long afterId = 0;
+            while (true) {
+                List<Comment> chunk = commentBatchRepository.findBlockedWordChunk(userId, afterId, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                List<Comment> changed = new ArrayList<>();
+                for (Comment comment : chunk) {
+                    BlockedWordDictionary dictionary = dictionaries.computeIfAbsent(comment.getUserId(),
+                            blockedWordService::getDictionary);
+                    if (dictionary.applyTo(comment)) {
+                        changed.add(comment);
+                    }
+                }
+                commentBatchRepository.updateBlockedWordMatches(changed);
+                scanned += chunk.size();
+                updated += changed.size();
+                afterId = chunk.get(chunk.size() - 1).getCommentId();
+            }
+            rescans.incrementAndGet();
+            System.out.println("[DEBUG] Blocked word rescan for " + (userId != null ? "user " + userId : "all users")
+                    + ": scanned " + scanned + ", updated " + updated + " in "
+                    + (System.currentTimeMillis() - start) + "ms");
+            return true;
+        } catch (Exception e) {
+            System.err.println("[ERROR] Blocked word rescan failed for user " + userId + ": " + e.getMessage());
+            return false;
+        } finally {
+            scannedComments.addAndGet(scanned);
+            updatedComments.addAndGet(updated);
+        }
+    }
+
+    /**
+     * 재계산 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pending", pending.size());
+        stats.put("completedRescans", rescans.get());
+        stats.put("scannedComments", scannedComments.get());
+        stats.put("updatedComments", updatedComments.get());
+        return stats;
+    }
+}
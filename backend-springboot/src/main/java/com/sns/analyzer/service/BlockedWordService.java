@@ -2,13 +2,29 @@
 package com.sns.analyzer.service;
 
 import com.sns.analyzer.entity.BlockedWord;
+import com.sns.analyzer.repository.BlockedWordBatchRepository;
 import com.sns.analyzer.repository.BlockedWordRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 @RequiredArgsConstructor
@@ -16,6 +32,31 @@ import java.util.List;
 public class BlockedWordService {
     
     private final BlockedWordRepository blockedWordRepository;
+    private final BlockedWordBatchRepository blockedWordBatchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 차단 단어 목록 변경 (userId 가 null 이면 전역 단어)
+     * 커밋 후 매처를 교체/무효화한 다음에 발행 → 받는 쪽은 바로 저장된 댓글 매칭 결과를 재계산해도 새 목록 기준
+     */
+    public record BlockedWordsChangedEvent(Long userId) {
+    }
+
+    // 사용자별 활성 차단 단어 매처 (사용자가 등록한 단어만, 단어 추가/수정/삭제/토글 시에만 다시 생성)
+    private final Map<Long, BlockedWordMatcher> matchers = new ConcurrentHashMap<>();
+
+    // 사용자별 매처 무효화 횟수 (DB 를 읽는 동안 무효화되면 그 매처는 캐시에 넣지 않음)
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    // 전역 차단 단어 매처 (userId 가 null 인 단어, 프로세스에 하나, 다시 만들면 통째로 교체)
+    private volatile BlockedWordMatcher globalMatcher;
+
+    // 띄어쓰기/기호/자모 분리/유사 문자로 우회한 표기도 매칭
+    @Value("${blocked-word.normalize.enabled:true}")
+    private boolean normalizeEnabled;
+
+    @Value("${blocked-word.import.batch-size:500}")
+    private int importBatchSize;
     
     /**
      * 사용자의 차단 단어 목록 조회
@@ -31,6 +72,129 @@ public class BlockedWordService {
         return blockedWordRepository.findByUserIdAndIsActive(userId, true);
     }
     
+    /**
+     * 사용자에게 적용할 차단 단어 사전 (전역 매처 + 사용자 매처, 둘 다 캐시)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public BlockedWordDictionary getDictionary(Long userId) {
+        return new BlockedWordDictionary(getGlobalMatcher(), getUserMatcher(userId));
+    }
+    
+    /**
+     * 사용자의 활성 차단 단어 매처 (캐시, 없으면 DB 조회 후 생성)
+     * - 조회 전에 읽은 무효화 횟수가 그대로일 때만 캐시 (조회 중 단어가 바뀌었으면 이번 호출에만 사용)
+     */
+    private BlockedWordMatcher getUserMatcher(Long userId) {
+        BlockedWordMatcher matcher = matchers.get(userId);
+        if (matcher != null) {
+            return matcher;
+        }
+        AtomicLong generation = generations.computeIfAbsent(userId, k -> new AtomicLong());
+        long seen = generation.get();
+        matcher = BlockedWordMatcher.compile(getActiveBlockedWords(userId), normalizeEnabled);
+        synchronized (generation) {
+            if (generation.get() == seen) {
+                matchers.put(userId, matcher);
+            }
+        }
+        return matcher;
+    }
+    
+    /**
+     * 전역 차단 단어 매처 (처음 사용할 때 DB 조회 후 생성)
+     */
+    private BlockedWordMatcher getGlobalMatcher() {
+        BlockedWordMatcher matcher = globalMatcher;
+        if (matcher == null) {
+            synchronized (this) {
+                matcher = globalMatcher;
+                if (matcher == null) {
+                    matcher = reloadGlobalWords();
+                }
+            }
+        }
+        return matcher;
+    }
+    
+    /**
+     * 전역 차단 단어를 DB 에서 다시 읽어 매처 교체 (새 매처를 다 만든 뒤 한 번에 바꿈, 사용 중인 매칭은 이전 매처로 끝남)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public synchronized BlockedWordMatcher reloadGlobalWords() {
+        List<BlockedWord> words = blockedWordRepository.findByUserIdIsNullAndIsActive(true);
+        BlockedWordMatcher matcher = BlockedWordMatcher.compile(words, normalizeEnabled);
+        globalMatcher = matcher;
+        System.out.println("[DEBUG] Global blocked words loaded: " + words.size());
+        return matcher;
+    }
+    
+    /**
+     * 전역 차단 단어 목록 (관리자)
+     */
+    public List<BlockedWord> getGlobalBlockedWords() {
+        return blockedWordRepository.findByUserIdIsNull();
+    }
+    
+    /**
+     * 전역 차단 단어 추가 (관리자)
+     */
+    public BlockedWord addGlobalBlockedWord(String word,
+            BlockedWord.WordCategory category, BlockedWord.Severity severity) {
+        
+        if (blockedWordRepository.existsByUserIdIsNullAndWord(word.trim())) {
+            throw new IllegalArgumentException("이미 등록된 단어입니다: " + word);
+        }
+        
+        BlockedWord blockedWord = BlockedWord.builder()
+                .word(word.trim())
+                .category(category != null ? category : BlockedWord.WordCategory.PROFANITY)
+                .severity(severity != null ? severity : BlockedWord.Severity.MEDIUM)
+                .language("ko")
+                .isActive(true)
+                .createdAt(LocalDateTime.now())
+                .build();
+        
+        BlockedWord saved = blockedWordRepository.save(blockedWord);
+        reloadGlobalAfterCommit();
+        return saved;
+    }
+    
+    /**
+     * 전역 차단 단어 활성화/비활성화 토글 (관리자)
+     */
+    public BlockedWord toggleGlobalBlockedWord(Long wordId) {
+        BlockedWord blockedWord = findGlobalWord(wordId);
+        blockedWord.setIsActive(!blockedWord.getIsActive());
+        blockedWord.setUpdatedAt(LocalDateTime.now());
+        
+        BlockedWord saved = blockedWordRepository.save(blockedWord);
+        reloadGlobalAfterCommit();
+        return saved;
+    }
+    
+    /**
+     * 전역 차단 단어 삭제 (관리자)
+     */
+    public void deleteGlobalBlockedWord(Long wordId) {
+        blockedWordRepository.delete(findGlobalWord(wordId));
+        reloadGlobalAfterCommit();
+    }
+    
+    /**
+     * 전역 사전 / 사용자 매처 캐시 상태
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<String, Object> getStats() {
+        BlockedWordMatcher global = globalMatcher;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("globalLoaded", global != null);
+        stats.put("globalWords", global != null ? global.getWords().size() : 0);
+        stats.put("cachedUserMatchers", matchers.size());
+        stats.put("cachedUserWords", matchers.values().stream().mapToInt(m -> m.getWords().size()).sum());
+        stats.put("normalize", normalizeEnabled);
+        return stats;
+    }
+    
     /**
      * 차단 단어 추가
      */
@@ -52,7 +216,49 @@ public class BlockedWordService {
                 .createdAt(LocalDateTime.now())
                 .build();
         
-        return blockedWordRepository.save(blockedWord);
+        BlockedWord saved = blockedWordRepository.save(blockedWord);
+        evictMatcher(userId);
+        return saved;
+    }
+    
+    /**
+     * 차단 단어 일괄 등록 (이미 등록된 단어는 건너뜀)
+     * - 기존 단어는 한 번만 조회해서 메모리에서 비교, INSERT 는 JDBC 배치
+     * - 매처 재생성 / 저장된 댓글 재검사는 마지막에 한 번만
+     *
+     * @return 새로 등록된 단어 수
+     */
+    public int importBlockedWords(Long userId, Collection<BlockedWord> candidates) {
+        Set<String> known = new HashSet<>();
+        for (BlockedWord word : blockedWordRepository.findByUserId(userId)) {
+            known.add(dedupeKey(word.getWord()));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<BlockedWord> fresh = new ArrayList<>();
+        for (BlockedWord candidate : candidates) {
+            if (!known.add(dedupeKey(candidate.getWord()))) {
+                continue;
+            }
+            candidate.setUserId(userId);
+            candidate.setCreatedAt(now);
+            fresh.add(candidate);
+        }
+
+        blockedWordBatchRepository.insertBlockedWords(fresh, importBatchSize);
+        if (!fresh.isEmpty()) {
+            evictMatcher(userId);
+        }
+        System.out.println("[DEBUG] Imported " + fresh.size() + " of " + candidates.size()
+                + " blocked words for user " + userId);
+        return fresh.size();
+    }
+    
+    /**
+     * 중복 판정 키 (앞뒤 공백 제거 + 소문자, DB 의 대소문자 무시 비교와 맞춤)
+     */
+    public static String dedupeKey(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
     }
     
     /**
@@ -65,7 +271,7 @@ public class BlockedWordService {
                 .orElseThrow(() -> new IllegalArgumentException("차단 단어를 찾을 수 없습니다."));
         
         // 소유권 확인
-        if (!blockedWord.getUserId().equals(userId)) {
+        if (!Objects.equals(blockedWord.getUserId(), userId)) {
             throw new IllegalArgumentException("권한이 없습니다.");
         }
         
@@ -74,7 +280,9 @@ public class BlockedWordService {
         if (severity != null) blockedWord.setSeverity(severity);
         blockedWord.setUpdatedAt(LocalDateTime.now());
         
-        return blockedWordRepository.save(blockedWord);
+        BlockedWord saved = blockedWordRepository.save(blockedWord);
+        evictMatcher(userId);
+        return saved;
     }
     
     /**
@@ -85,11 +293,12 @@ public class BlockedWordService {
                 .orElseThrow(() -> new IllegalArgumentException("차단 단어를 찾을 수 없습니다."));
         
         // 소유권 확인
-        if (!blockedWord.getUserId().equals(userId)) {
+        if (!Objects.equals(blockedWord.getUserId(), userId)) {
             throw new IllegalArgumentException("권한이 없습니다.");
         }
         
         blockedWordRepository.delete(blockedWord);
+        evictMatcher(userId);
     }
     
     /**
@@ -100,14 +309,16 @@ public class BlockedWordService {
                 .orElseThrow(() -> new IllegalArgumentException("차단 단어를 찾을 수 없습니다."));
         
         // 소유권 확인
-        if (!blockedWord.getUserId().equals(userId)) {
+        if (!Objects.equals(blockedWord.getUserId(), userId)) {
             throw new IllegalArgumentException("권한이 없습니다.");
         }
         
         blockedWord.setIsActive(!blockedWord.getIsActive());
         blockedWord.setUpdatedAt(LocalDateTime.now());
         
-        return blockedWordRepository.save(blockedWord);
+        BlockedWord saved = blockedWordRepository.save(blockedWord);
+        evictMatcher(userId);
+        return saved;
     }
     
     /**
@@ -119,4 +330,70 @@ public class BlockedWordService {
                 .map(BlockedWord::getWord)
                 .toList();
     }
+    
+    private BlockedWord findGlobalWord(Long wordId) {
+        BlockedWord blockedWord = blockedWordRepository.findById(wordId)
+                .orElseThrow(() -> new IllegalArgumentException("차단 단어를 찾을 수 없습니다."));
+        if (blockedWord.getUserId() != null) {
+            throw new IllegalArgumentException("전역 차단 단어가 아닙니다.");
+        }
+        return blockedWord;
+    }
+    
+    /**
+     * 커밋 후 전역 매처 교체 + 변경 이벤트 발행 (트랜잭션 밖이면 바로)
+     */
+    private void reloadGlobalAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reloadGlobalWords();
+                    eventPublisher.publishEvent(new BlockedWordsChangedEvent(null));
+                }
+            });
+        } else {
+            reloadGlobalWords();
+            eventPublisher.publishEvent(new BlockedWordsChangedEvent(null));
+        }
+    }
+    
+    /**
+     * 사용자 매처 무효화 + 변경 이벤트 발행
+     * - 트랜잭션 중이면 트랜잭션이 끝난 뒤에도 한 번 더 무효화
+     *   (커밋 전 목록이나 롤백될 목록으로 그 사이에 만든 매처 제거)
+     * - 이벤트는 커밋 후 무효화한 다음에만 발행 (트랜잭션 밖이면 바로)
+     */
+    private void evictMatcher(Long userId) {
+        invalidateMatcher(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateMatcher(userId);
+                    eventPublisher.publishEvent(new BlockedWordsChangedEvent(userId));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        invalidateMatcher(userId);
+                    }
+                }
+            });
+        } else {
+            eventPublisher.publishEvent(new BlockedWordsChangedEvent(userId));
+        }
+    }
+
+    /**
+     * 무효화 횟수 증가 + 캐시 제거 (getUserMatcher 의 확인 후 캐시와 겹치지 않게)
+     */
+    private void invalidateMatcher(Long userId) {
+        AtomicLong generation = generations.computeIfAbsent(userId, k -> new AtomicLong());
+        synchronized (generation) {
+            generation.incrementAndGet();
+            matchers.remove(userId);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,343 @@
+// ==================== BlockedWordTransferService.java ====================
+package com.sns.analyzer.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sns.analyzer.entity.BlockedWord;
+import com.sns.analyzer.repository.BlockedWordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 차단 단어 CSV/JSON 가져오기/내보내기
+ * - 가져오기: 요청 본문을 한 줄(한 항목)씩 읽으며 검증 + 파일 안 중복 제거 → BlockedWordService.importBlockedWords 로 한 번에 등록
+ * - 내보내기: 응답 스트림에 바로 기록 (CSV 는 엑셀 한글 표시용 BOM 포함, 가져오기에서 그대로 다시 읽을 수 있음)
+ *   =, +, -, @, 탭, CR 로 시작하는 단어는 수식 실행 방지를 위해 앞에 ' 를 붙여 기록
+ *   (' 로 시작하는 단어에도 붙여서, CSV 가져오기는 ' 로 시작하는 값에서 항상 ' 하나만 제거하면 원래 단어가 됨)
+ * - CSV 열: word[,category[,severity[,isActive]]] (첫 줄이 word 로 시작하면 헤더로 보고 열 이름으로 매핑)
+ * - JSON: ["단어", ...] 또는 [{"word": "...", "category": "...", "severity": "...", "isActive": true}, ...]
+ */
+@Service
+@RequiredArgsConstructor
+public class BlockedWordTransferService {
+
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_JSON = "json";
+
+    private static final String[] CSV_COLUMNS = {"word", "category", "severity", "isActive"};
+    private static final int MAX_WORD_LENGTH = 100;
+    private static final int MAX_REPORTED_ERRORS = 20;
+    // 스프레드시트가 수식으로 해석하는 첫 글자 + 이스케이프 문자 자신(')
+    private static final String ESCAPED_PREFIXES = "=+-@\t\r'";
+
+    private final BlockedWordService blockedWordService;
+    private final BlockedWordRepository blockedWordRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${blocked-word.import.max-words:10000}")
+    private int maxImportWords;
+
+    /**
+     * 형식 확인 (csv / json)
+     */
+    public static String checkFormat(String format) {
+        String normalized = format != null ? format.trim().toLowerCase(Locale.ROOT) : FORMAT_CSV;
+        if (!FORMAT_CSV.equals(normalized) && !FORMAT_JSON.equals(normalized)) {
+            throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format + " (csv, json)");
+        }
+        return normalized;
+    }
+
+    /**
+     * 차단 단어 가져오기
+     */
+    public Map<String, Object> importWords(Long userId, InputStream in, String format) throws IOException {
+        Batch batch = new Batch();
+        if (FORMAT_JSON.equals(checkFormat(format))) {
+            readJson(in, batch);
+        } else {
+            readCsv(in, batch);
+        }
+
+        int imported = blockedWordService.importBlockedWords(userId, batch.words.values());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("totalRows", batch.rows);
+        result.put("importedCount", imported);
+        result.put("alreadyRegisteredCount", batch.words.size() - imported);
+        result.put("duplicateCount", batch.duplicates);
+        result.put("invalidCount", batch.invalid);
+        result.put("errors", batch.errors);
+        return result;
+    }
+
+    /**
+     * 차단 단어 내보내기 (사용자가 등록한 단어 전체, 비활성 포함)
+     */
+    public void exportWords(Long userId, String format, OutputStream out) throws IOException {
+        List<BlockedWord> words = blockedWordRepository.findByUserId(userId);
+        if (FORMAT_JSON.equals(checkFormat(format))) {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                generator.writeStartArray();
+                for (BlockedWord word : words) {
+                    generator.writeStartObject();
+                    generator.writeStringField("word", word.getWord());
+                    generator.writeStringField("category", word.getCategory().name());
+                    generator.writeStringField("severity", word.getSeverity().name());
+                    generator.writeBooleanField("isActive", Boolean.TRUE.equals(word.getIsActive()));
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+            }
+            return;
+        }
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+            writer.write('\uFEFF');
+            writer.write(String.join(",", CSV_COLUMNS));
+            writer.write("\r\n");
+            for (BlockedWord word : words) {
+                writer.write(csvField(word.getWord()));
+                writer.write(',');
+                writer.write(word.getCategory().name());
+                writer.write(',');
+                writer.write(word.getSeverity().name());
+                writer.write(',');
+                writer.write(String.valueOf(Boolean.TRUE.equals(word.getIsActive())));
+                writer.write("\r\n");
+            }
+        }
+    }
+
+    private void readCsv(InputStream in, Batch batch) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Map<String, Integer> columns = null;
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                line = line.substring(1);
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> fields = parseCsvLine(line);
+            if (columns == null) {
+                columns = new HashMap<>();
+                if ("word".equalsIgnoreCase(fields.get(0).trim())) {
+                    for (int i = 0; i < fields.size(); i++) {
+                        columns.put(fields.get(i).trim().toLowerCase(Locale.ROOT).replace("_", ""), i);
+                    }
+                    continue;
+                }
+                for (int i = 0; i < CSV_COLUMNS.length; i++) {
+                    columns.put(CSV_COLUMNS[i].toLowerCase(Locale.ROOT), i);
+                }
+            }
+            batch.add(lineNumber + "행", unescapeCsvWord(field(fields, columns, "word")),
+                    field(fields, columns, "category"), field(fields, columns, "severity"),
+                    field(fields, columns, "isactive"));
+            checkLimit(batch);
+        }
+    }
+
+    private void readJson(InputStream in, Batch batch) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("JSON 은 배열이어야 합니다.");
+            }
+            int index = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IllegalArgumentException("JSON 배열이 닫히지 않았습니다.");
+                }
+                index++;
+                String label = index + "번째 항목";
+                if (token == JsonToken.VALUE_STRING) {
+                    batch.add(label, parser.getText(), null, null, null);
+                } else if (token == JsonToken.START_OBJECT) {
+                    JsonNode node = objectMapper.readTree(parser);
+                    batch.add(label, text(node, "word"), text(node, "category"), text(node, "severity"),
+                            text(node, "isActive"));
+                } else {
+                    parser.skipChildren();
+                    batch.reject(label, "단어 문자열 또는 객체가 아닙니다.");
+                }
+                checkLimit(batch);
+            }
+        }
+    }
+
+    private void checkLimit(Batch batch) {
+        if (batch.rows > maxImportWords) {
+            throw new IllegalArgumentException("한 번에 최대 " + maxImportWords + "개까지 가져올 수 있습니다.");
+        }
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value != null && !value.isNull() ? value.asText() : null;
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        return index != null && index < fields.size() ? fields.get(index) : null;
+    }
+
+    /**
+     * CSV 한 줄 분리 (큰따옴표 안의 쉼표, "" 이스케이프 지원, 여러 줄 값은 미지원)
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (quoted) {
+                if (ch == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(ch);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * CSV 값 이스케이프
+     * - =, +, -, @, 탭, CR 로 시작하면 엑셀이 수식으로 실행하지 않도록 앞에 ' 추가 (가져오기에서 다시 제거)
+     * - ' 로 시작하는 값에도 추가 → 가져오기에서 제거해도 원래 ' 가 남음
+     */
+    private static String csvField(String value) {
+        if (!value.isEmpty() && ESCAPED_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * 내보내기에서 붙인 ' 제거 (앞뒤 공백을 자르기 전 원래 값 기준, ' 하나만)
+     */
+    private static String unescapeCsvWord(String value) {
+        return value != null && !value.isEmpty() && value.charAt(0) == '\'' ? value.substring(1) : value;
+    }
+
+    /**
+     * 가져오기 1회 누적 상태 (파일 안 중복은 처음 나온 항목 유지)
+     */
+    private static final class Batch {
+
+        private final Map<String, BlockedWord> words = new LinkedHashMap<>();
+        private final List<String> errors = new ArrayList<>();
+        private int rows;
+        private int duplicates;
+        private int invalid;
+
+        void add(String label, String word, String category, String severity, String active) {
+            rows++;
+            String trimmed = word != null ? word.trim() : "";
+            if (trimmed.isEmpty()) {
+                reject(label, "단어가 비어 있습니다.");
+                return;
+            }
+            if (trimmed.length() > MAX_WORD_LENGTH) {
+                reject(label, "단어는 " + MAX_WORD_LENGTH + "자 이하여야 합니다.");
+                return;
+            }
+            BlockedWord.WordCategory wordCategory;
+            BlockedWord.Severity wordSeverity;
+            try {
+                wordCategory = isBlank(category) ? BlockedWord.WordCategory.PROFANITY
+                        : BlockedWord.WordCategory.valueOf(category.trim().toUpperCase(Locale.ROOT));
+                wordSeverity = isBlank(severity) ? BlockedWord.Severity.MEDIUM
+                        : BlockedWord.Severity.valueOf(severity.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                reject(label, "분류/심각도 값이 올바르지 않습니다: " + category + ", " + severity);
+                return;
+            }
+            Boolean isActive = parseActive(active);
+            if (isActive == null) {
+                reject(label, "isActive 값이 올바르지 않습니다: " + active);
+                return;
+            }
+
+            String key = BlockedWordService.dedupeKey(trimmed);
+            if (words.containsKey(key)) {
+                duplicates++;
+                return;
+            }
+            words.put(key, BlockedWord.builder()
+                    .word(trimmed)
+                    .category(wordCategory)
+                    .severity(wordSeverity)
+                    .language("ko")
+                    .isActive(isActive)
+                    .build());
+        }
+
+        void reject(String label, String message) {
+            invalid++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(label + ": " + message);
+            }
+        }
+
+        private static Boolean parseActive(String value) {
+            if (isBlank(value)) {
+                return true;
+            }
+            switch (value.trim().toLowerCase(Locale.ROOT)) {
+                case "true", "1", "y", "yes":
+                    return true;
+                case "false", "0", "n", "no":
+                    return false;
+                default:
+                    return null;
+            }
+        }
+
+        private static boolean isBlank(String value) {
+            return value == null || value.isBlank();
+        }
+    }
+}
@@ -0,0 +1,323 @@
+// ==================== CommentIngestPipeline.java ====================
+package com.sns.analyzer.service;
+
+import com.sns.analyzer.entity.AnalysisResult;
+import com.sns.analyzer.entity.Comment;
+import com.sns.analyzer.repository.CommentBatchRepository;
+import com.sns.analyzer.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크롤링 댓글 수집 파이프라인 (수집/변환 → 저장 → 분석)
+ * - 단계 사이는 크기가 정해진 큐로 연결 → 앞 단계는 큐가 차면 대기 (백프레셔)
+ * - 저장은 chunk 단위 트랜잭션으로 커밋하고, 커밋된 댓글부터 바로 분석 단계로 전달
+ * - AI 서비스가 느리면 분석 큐 → 저장 큐 순으로 차서 수집 속도가 자동으로 줄어듦
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentIngestPipeline {
+
+    // 단계 종료 표시 (동일성 비교)
+    private static final Comment END = new Comment();
+
+    private final CommentRepository commentRepository;
+    private final CommentBatchRepository commentBatchRepository;
+    private final AnalysisService analysisService;
+    private final AnalysisTaskQueue analysisTaskQueue;
+    private final BlockedWordService blockedWordService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService pipelineExecutor;
+
+    @Value("${comment.pipeline.persist-chunk-size:200}")
+    private int persistChunkSize;
+
+    @Value("${comment.pipeline.persist-queue-capacity:1000}")
+    private int persistQueueCapacity;
+
+    @Value("${comment.pipeline.analyze-queue-capacity:200}")
+    private int analyzeQueueCapacity;
+
+    @Value("${comment.pipeline.analyze-workers:8}")
+    private int analyzeWorkers;
+
+    // 수집이 느릴 때 덜 찬 chunk 를 저장하기까지 기다리는 시간
+    @Value("${comment.pipeline.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    /**
+     * 파이프라인 실행 (호출 스레드가 수집/변환 단계를 담당)
+     *
+     * @param comments 변환된 댓글 (지연 평가 가능, 순회하면서 수집/변환이 진행됨)
+     * @param analyze  true 이면 저장된 댓글을 바로 분석
+     */
+    public Map<String, Object> run(Long userId, Iterable<Comment> comments, boolean analyze, JobProgress progress) {
+        Run run = new Run(userId, analyze, progress);
+
+        Future<?> persister = pipelineExecutor.submit(run::persistStage);
+        List<Future<?>> analyzers = new ArrayList<>();
+        if (analyze) {
+            for (int i = 0; i < Math.max(1, analyzeWorkers); i++) {
+                analyzers.add(pipelineExecutor.submit(run::analyzeStage));
+            }
+        }
+
+        try {
+            // 1. 수집/변환 단계
+            try {
+                for (Comment comment : comments) {
+                    if (!offer(run.persistQueue, comment, persister)) {
+                        break; // 저장 단계가 중단됨
+                    }
+                }
+            } finally {
+                offer(run.persistQueue, END, persister);
+            }
+
+            // 2. 저장 단계 종료 대기 → 분석 워커 종료
+            await(persister);
+        } finally {
+            if (analyze) {
+                for (int i = 0; i < analyzers.size(); i++) {
+                    run.analyzeQueue.offer(END);
+                }
+                for (Future<?> analyzer : analyzers) {
+                    await(analyzer);
+                }
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("savedCount", run.saved.get());
+        result.put("skippedCount", run.skipped.get());
+        result.put("failCount", run.failed.get());
+        result.put("rowsPerSecond", run.rowsPerSecond());
+        if (analyze) {
+            result.put("analyzedCount", run.analyzed.get());
+            result.put("errorCount", run.analyzeErrors.get());
+            result.put("queuedCount", run.handedOff.get());
+        }
+        return result;
+    }
+
+    /**
+     * 큐가 찰 때까지 대기하며 전달 (소비 단계가 끝나버렸으면 false)
+     */
+    private static boolean offer(BlockingQueue<Comment> queue, Comment item, Future<?> consumer) {
+        try {
+            while (!queue.offer(item, 1, TimeUnit.SECONDS)) {
+                if (consumer.isDone()) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Pipeline interrupted");
+        }
+    }
+
+    private static void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new RuntimeException("Pipeline interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new RuntimeException("Pipeline stage failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 실행 1회분 상태 (큐 + 집계)
+     */
+    private class Run {
+        private final Long userId;
+        private final boolean analyze;
+        private final JobProgress progress;
+        private final BlockingQueue<Comment> persistQueue = new ArrayBlockingQueue<>(Math.max(1, persistQueueCapacity));
+        private final BlockingQueue<Comment> analyzeQueue;
+
+        private final AtomicInteger saved = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger analyzed = new AtomicInteger();
+        private final AtomicInteger analyzeErrors = new AtomicInteger();
+        // 작업 큐 워커가 먼저 임대해 워커에게 넘긴 댓글 (이 실행에서는 분석하지 않음)
+        private final AtomicInteger handedOff = new AtomicInteger();
+        private final AtomicLong persistNanos = new AtomicLong();
+
+        Run(Long userId, boolean analyze, JobProgress progress) {
+            this.userId = userId;
+            this.analyze = analyze;
+            this.progress = progress;
+            // 분석 워커 종료 표시가 항상 들어갈 수 있도록 워커 수만큼 여유
+            this.analyzeQueue = analyze
+                    ? new ArrayBlockingQueue<>(Math.max(1, analyzeQueueCapacity) + Math.max(1, analyzeWorkers))
+                    : null;
+        }
+
+        /**
+         * 저장 처리량 (저장 단계에서 DB 작업에 쓴 시간 기준, 중복으로 건너뛴 행 포함)
+         */
+        long rowsPerSecond() {
+            long nanos = persistNanos.get();
+            int rows = saved.get() + skipped.get();
+            return nanos > 0 ? Math.round(rows * 1_000_000_000.0 / nanos) : 0;
+        }
+
+        /**
+         * 2. 저장 단계: chunk 단위 트랜잭션 커밋 후 분석 큐로 전달
+         */
+        void persistStage() {
+            List<Comment> chunk = new ArrayList<>(persistChunkSize);
+            try {
+                while (true) {
+                    Comment comment = persistQueue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                    if (comment == END) {
+                        break;
+                    }
+                    if (comment != null) {
+                        chunk.add(comment);
+                    }
+                    if (chunk.size() >= persistChunkSize || (comment == null && !chunk.isEmpty())) {
+                        persistChunk(chunk);
+                        chunk = new ArrayList<>(persistChunkSize);
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    persistChunk(chunk);
+                }
+                System.out.println("[DEBUG] Pipeline persisted " + saved.get() + " comments (skipped "
+                        + skipped.get() + ") at " + rowsPerSecond() + " rows/s");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void persistChunk(List<Comment> chunk) throws InterruptedException {
+            long start = System.nanoTime();
+            List<Comment> savedComments;
+            try {
+                savedComments = transactionTemplate.execute(status -> {
+                    // chunk 안의 중복 제거 후 기존 외부 ID 를 쿼리 1회로 확인
+                    Map<String, Comment> unique = new LinkedHashMap<>();
+                    for (Comment comment : chunk) {
+                        if (unique.putIfAbsent(comment.getExternalCommentId(), comment) != null) {
+                            skipped.incrementAndGet();
+                        }
+                    }
+                    Set<String> existing = new HashSet<>(
+                            commentRepository.findExistingExternalIds(userId, unique.keySet()));
+
+                    List<Comment> fresh = new ArrayList<>(unique.size());
+                    for (Comment comment : unique.values()) {
+                        if (existing.contains(comment.getExternalCommentId())) {
+                            skipped.incrementAndGet();
+                        } else {
+                            fresh.add(comment);
+                        }
+                    }
+
+                    // 차단 단어 매칭 결과는 저장 시 한 번 계산 (목록 조회에서 SQL 로 필터)
+                    BlockedWordDictionary dictionary = blockedWordService.getDictionary(userId);
+                    for (Comment comment : fresh) {
+                        dictionary.applyTo(comment);
+                    }
+
+                    // 공용 원본 UPSERT → 사용자 댓글 JDBC 배치 INSERT + 분석 작업 등록 (같은 트랜잭션)
+                    commentBatchRepository.upsertSharedComments(fresh);
+                    List<Comment> inserted = commentBatchRepository.insertComments(userId, fresh);
+                    skipped.addAndGet(fresh.size() - inserted.size()); // 동시 수집이 먼저 저장한 댓글
+                    analysisTaskQueue.enqueueAll(userId, inserted.stream().map(Comment::getCommentId).toList());
+                    return inserted;
+                });
+            } catch (Exception e) {
+                // chunk 전체 롤백
+                failed.addAndGet(chunk.size());
+                progress.addFailed(chunk.size());
+                System.err.println("[ERROR] Failed to persist chunk of " + chunk.size() + " comments: "
+                        + e.getMessage());
+                return;
+            } finally {
+                persistNanos.addAndGet(System.nanoTime() - start);
+            }
+            if (savedComments == null) {
+                return;
+            }
+
+            saved.addAndGet(savedComments.size());
+            progress.addSaved(savedComments.size());
+
+            if (analyze) {
+                progress.addTotal(savedComments.size());
+                for (Comment comment : savedComments) {
+                    analyzeQueue.put(comment); // 분석이 밀리면 여기서 대기 → 저장/수집 속도 조절
+                }
+            }
+        }
+
+        /**
+         * 3. 분석 단계: 커밋된 댓글을 하나씩 분석
+         */
+        void analyzeStage() {
+            while (true) {
+                Comment comment;
+                try {
+                    comment = analyzeQueue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (comment == END) {
+                    return;
+                }
+                try {
+                    // 분석 작업 큐 워커가 먼저 가져간 댓글은 워커가 분석 (같은 댓글 중복 분석 방지)
+                    if (!analysisTaskQueue.leaseForInline(comment.getCommentId())) {
+                        handedOff.incrementAndGet();
+                        continue;
+                    }
+                } catch (Exception e) {
+                    // 임대 실패 시 작업 큐에 맡김
+                    analyzeErrors.incrementAndGet();
+                    progress.addFailed(1);
+                    System.err.println("[ERROR] Failed to lease analysis task for comment "
+                            + comment.getCommentId() + ": " + e.getMessage());
+                    continue;
+                }
+                try {
+                    AnalysisResult result = analysisService.analyzeComment(comment.getCommentId(), userId);
+                    analysisTaskQueue.completeInline(comment.getCommentId(), result, null);
+                    analyzed.incrementAndGet();
+                    progress.addAnalyzed(1);
+                } catch (Exception e) {
+                    analysisTaskQueue.completeInline(comment.getCommentId(), null, e.getMessage());
+                    analyzeErrors.incrementAndGet();
+                    progress.addFailed(1);
+                    System.err.println("[ERROR] Failed to analyze comment " + comment.getCommentId() + ": "
+                            + e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+// ==================== CommentPreFilter.java ====================
+package com.sns.analyzer.service;
+
+import com.sns.analyzer.entity.BlockedWord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AI 호출 전 로컬 사전 분류
+ * - 명백히 깨끗한 댓글 (이모지/기호만, 타임스탬프만, 웃음/울음 자모만, 영문/숫자만으로 된 아주 짧은 댓글) → clean 판정
+ * - 사용자/전역 CRITICAL 차단 단어 포함 → blocked 판정
+ * - 그 외(애매한 댓글)는 null 을 반환하여 AI 서비스로 전달
+ */
+@Component
+public class CommentPreFilter {
+
+    public static final String MODEL_VERSION = "local-rule-engine-v1";
+
+    @Value("${ai.prefilter.enabled:true}")
+    private boolean enabled;
+
+    // 글자(문자+숫자) 수가 이 값 이하이면 짧은 댓글로 보고 clean 처리 (한글 자모가 있으면 제외, "ㅗ" 등)
+    @Value("${ai.prefilter.short-max-length:1}")
+    private int shortMaxLength;
+
+    private final AtomicLong cleanCount = new AtomicLong();
+    private final AtomicLong blockedCount = new AtomicLong();
+    private final AtomicLong forwardedCount = new AtomicLong();
+
+    /**
+     * 사전 분류 (AI 응답과 같은 키 구조, 애매하면 null)
+     */
+    public Map<String, Object> classify(String text, BlockedWordDictionary dictionary) {
+        if (!enabled || text == null) {
+            return null;
+        }
+        long start = System.currentTimeMillis();
+
+        // 1. CRITICAL 차단 단어
+        List<BlockedWord> matched = dictionary.findAll(text);
+        List<String> found = new ArrayList<>();
+        BlockedWord firstCritical = null;
+        boolean containsAnyBlockedWord = !matched.isEmpty();
+        for (BlockedWord word : matched) {
+            if (word.getSeverity() == BlockedWord.Severity.CRITICAL) {
+                found.add(word.getWord());
+                if (firstCritical == null) {
+                    firstCritical = word;
+                }
+            }
+        }
+        if (firstCritical != null) {
+            blockedCount.incrementAndGet();
+            return blockedVerdict(firstCritical, found, start);
+        }
+
+        // 2. 명백히 깨끗한 댓글 (차단 단어/기본 욕설 사전에 걸리면 AI 로 전달)
+        if (!containsAnyBlockedWord && !RuleBasedAnalyzer.containsDefaultBlockedWord(text.toLowerCase())) {
+            String reason = trivialCleanReason(text, shortMaxLength);
+            if (reason != null) {
+                cleanCount.incrementAndGet();
+                return cleanVerdict(reason, start);
+            }
+        }
+
+        forwardedCount.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * 사전 분류 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("clean", cleanCount.get());
+        stats.put("blocked", blockedCount.get());
+        stats.put("forwarded", forwardedCount.get());
+        return stats;
+    }
+
+    /**
+     * 명백히 깨끗한 댓글이면 사유 반환, 아니면 null
+     */
+    static String trivialCleanReason(String text, int shortMaxLength) {
+        int letters = 0;
+        boolean onlyLaughJamo = true;
+        boolean onlyLatinOrDigit = true;
+        for (int i = 0; i < text.length(); ) {
+            int cp = text.codePointAt(i);
+            i += Character.charCount(cp);
+            if (Character.isLetterOrDigit(cp)) {
+                letters++;
+                if (cp != 'ㅋ' && cp != 'ㅎ' && cp != 'ㅠ' && cp != 'ㅜ') {
+                    onlyLaughJamo = false;
+                }
+                if (!Character.isDigit(cp) && Character.UnicodeScript.of(cp) != Character.UnicodeScript.LATIN) {
+                    onlyLatinOrDigit = false;
+                }
+            }
+        }
+
+        if (letters == 0) {
+            return "emoji/symbol only";
+        }
+        if (isTimestampOnly(text)) {
+            return "timestamp only";
+        }
+        if (onlyLaughJamo) {
+            return "laugh/cry jamo only";
+        }
+        // 한글은 자모/음절 한 글자도 욕설로 쓰이므로 (ㅗ, ㅅ, 좆, 씹 등) 짧아도 AI 로 전달 → 영문/숫자만 대상
+        if (letters <= shortMaxLength && onlyLatinOrDigit) {
+            return "very short";
+        }
+        return null;
+    }
+
+    /**
+     * "1:23", "12:34:56" 형태의 타임스탬프와 공백/기호로만 이루어졌는지
+     */
+    static boolean isTimestampOnly(String text) {
+        boolean sawTimestamp = false;
+        int i = 0;
+        int n = text.length();
+        while (i < n) {
+            char ch = text.charAt(i);
+            if (ch >= '0' && ch <= '9') {
+                int j = i;
+                int groups = 0;
+                while (true) {
+                    int digits = 0;
+                    while (j < n && text.charAt(j) >= '0' && text.charAt(j) <= '9' && digits < 3) {
+                        j++;
+                        digits++;
+                    }
+                    if (digits == 0 || digits > 2) {
+                        return false;
+                    }
+                    groups++;
+                    if (j < n && text.charAt(j) == ':') {
+                        j++;
+                    } else {
+                        break;
+                    }
+                }
+                if (groups < 2) {
+                    return false;
+                }
+                sawTimestamp = true;
+                i = j;
+            } else if (Character.isLetter(ch)) {
+                return false;
+            } else {
+                i++;
+            }
+        }
+        return sawTimestamp;
+    }
+
+    private Map<String, Object> cleanVerdict(String reason, long start) {
+        Map<String, Object> result = baseVerdict(start);
+        result.put("is_malicious", false);
+        result.put("is_blocked", false);
+        result.put("blocked_words_found", List.of());
+        result.put("status", "clean");
+        result.put("toxicity_score", 0.0);
+        result.put("hate_speech_score", 0.0);
+        result.put("profanity_score", 0.0);
+        result.put("threat_score", 0.0);
+        result.put("violence_score", 0.0);
+        result.put("sexual_score", 0.0);
+        result.put("confidence_score", 90.0);
+        result.put("category", "safe");
+        result.put("detected_keywords", List.of());
+        result.put("llama_reasoning", "Local pre-filter: " + reason);
+        return result;
+    }
+
+    private Map<String, Object> blockedVerdict(BlockedWord word, List<String> found, long start) {
+        Map<String, Object> result = baseVerdict(start);
+        result.put("is_malicious", true);
+        result.put("is_blocked", true);
+        result.put("blocked_words_found", found);
+        result.put("status", "blocked");
+        result.put("toxicity_score", 100.0);
+        result.put("hate_speech_score", word.getCategory() == BlockedWord.WordCategory.HATE ? 100.0 : 0.0);
+        result.put("profanity_score", word.getCategory() == BlockedWord.WordCategory.PROFANITY ? 100.0 : 0.0);
+        result.put("threat_score", 0.0);
+        result.put("violence_score", word.getCategory() == BlockedWord.WordCategory.VIOLENCE ? 100.0 : 0.0);
+        result.put("sexual_score", word.getCategory() == BlockedWord.WordCategory.SEXUAL ? 100.0 : 0.0);
+        result.put("confidence_score", 99.0);
+        result.put("category", categoryOf(word.getCategory()));
+        result.put("detected_keywords", found);
+        result.put("llama_reasoning", "Local pre-filter: CRITICAL blocked word");
+        return result;
+    }
+
+    private Map<String, Object> baseVerdict(long start) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("ai_model_version", MODEL_VERSION);
+        result.put("processing_time_ms", System.currentTimeMillis() - start);
+        return result;
+    }
+
+    private static String categoryOf(BlockedWord.WordCategory category) {
+        if (category == null) {
+            return "profanity";
+        }
+        switch (category) {
+            case HATE:
+                return "hate_speech";
+            case VIOLENCE:
+                return "violence";
+            case SEXUAL:
+                return "sexual_content";
+            case SPAM:
+                return "spam";
+            default:
+                return "profanity";
+        }
+    }
+}
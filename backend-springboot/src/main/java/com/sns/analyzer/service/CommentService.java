@@ -1,19 +1,32 @@
 package com.sns.analyzer.service;
 
+import com.sns.analyzer.dto.CrawlDTO.CrawledComment;
 import com.sns.analyzer.entity.*;
 import com.sns.analyzer.repository.*;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 @Service
 @RequiredArgsConstructor
@@ -23,108 +36,327 @@ public class CommentService {
     private final AnalysisResultRepository analysisResultRepository;
     private final AnalysisService analysisService;
     private final BlockedWordService blockedWordService; // ← 추가
-    private final RestTemplate restTemplate;
     private final org.springframework.transaction.support.TransactionTemplate transactionTemplate;
-
-    @Value("${ai.service.url:http://localhost:8000}")
-    private String aiServiceUrl;
+    private final ReactiveAIClient reactiveAIClient;
+    private final ExecutorService analysisExecutor;
+    private final AICircuitBreaker aiCircuitBreaker;
+    private final CommentPreFilter commentPreFilter;
+    private final CommentIngestPipeline commentIngestPipeline;
+    private final CrawlStreamReader crawlStreamReader;
+    private final CrawlWatermarkRepository crawlWatermarkRepository;
+    private final AnalysisJobService analysisJobService;
+    private final SharedCommentService sharedCommentService;
+    private final CommentBatchRepository commentBatchRepository;
+
+    // 증분 수집 기준점으로 저장할 최신 댓글 ID 수
+    @Value("${comment.crawl.watermark-ids:5}")
+    private int watermarkIdCount;
+
+    // 기준점 ID 가 이 개수만큼 연속으로 나오면 수집 중단 (맨 앞 고정 댓글 대비)
+    @Value("${comment.crawl.watermark-stop-after:2}")
+    private int watermarkStopAfter;
+
+    // 수집 기간 시작보다 오래된 댓글이 이 개수만큼 연속으로 나오면 수집 중단 (최신순, 고정 댓글 대비)
+    @Value("${comment.crawl.window-stop-after:3}")
+    private int windowStopAfter;
+
+    // 대량 삭제 시 한 번에 지우는 댓글 수 (chunk 마다 커밋)
+    @Value("${comment.delete.chunk-size:1000}")
+    private int deleteChunkSize;
+
+    // 대량 분석 모드 기본값 (ExecutorConfig 의 커넥션 수 확인과 같은 기본값을 쓰도록 공유)
+    public static final String DEFAULT_ANALYZE_BULK_MODE = "reactive";
+
+    // 대량 분석 모드: sequential(한 건씩) / parallel(스레드 풀) / reactive(기본, WebClient 동시 요청)
+    @Value("${comment.analyze-bulk.mode:" + DEFAULT_ANALYZE_BULK_MODE + "}")
+    private String analyzeBulkMode;
+
+    // reactive 모드에서 동시에 진행할 최대 AI 요청 수 (벌크헤드 크기를 넘지 않음)
+    @Value("${comment.analyze-bulk.reactive-concurrency:256}")
+    private int reactiveConcurrency;
+
+    // parallel 모드에서 요청 하나가 동시에 사용할 수 있는 최대 작업 수
+    @Value("${comment.analyze-bulk.parallel-concurrency:16}")
+    private int parallelConcurrency;
 
     /**
      * 유튜브 댓글 크롤링 및 분석
      */
     public Map<String, Object> crawlAndAnalyze(String url, Long userId, String startDateStr, String endDateStr) {
+        return crawlAndAnalyze(url, userId, startDateStr, endDateStr, JobProgress.noop());
+    }
+
+    /**
+     * 유튜브 댓글 크롤링 및 저장 (진행률 보고)
+     */
+    public Map<String, Object> crawlAndAnalyze(String url, Long userId, String startDateStr, String endDateStr,
+            JobProgress progress) {
+        return crawlAndAnalyze(url, userId, startDateStr, endDateStr, false, progress);
+    }
+
+    /**
+     * 유튜브 댓글 크롤링 및 저장 (analyze=true 이면 저장된 댓글부터 바로 분석)
+     */
+    private Map<String, Object> crawlAndAnalyze(String url, Long userId, String startDateStr, String endDateStr,
+            boolean analyze, JobProgress progress) {
         System.out.println("[DEBUG] crawlAndAnalyze called for URL: " + url + ", userId: " + userId + ", Period: "
                 + startDateStr + " ~ " + endDateStr);
 
         // 상한/하한 날짜 파싱 (ISO-8601: yyyy-MM-dd)
+        // 댓글 작성 시각은 크롤링 시작 시각 기준으로 계산
+        RelativeDateParser dates = new RelativeDateParser(LocalDateTime.now());
         LocalDateTime limitStart = (startDateStr != null && !startDateStr.isEmpty())
                 ? java.time.LocalDate.parse(startDateStr).atStartOfDay()
-                : LocalDateTime.now().minusDays(7);
+                : dates.now().minusDays(7);
         LocalDateTime limitEnd = (endDateStr != null && !endDateStr.isEmpty())
                 ? java.time.LocalDate.parse(endDateStr).atTime(23, 59, 59)
-                : LocalDateTime.now();
+                : dates.now();
+
+        // 0. 증분 수집 기준점 (기존 댓글/분석 결과는 유지)
+        CrawlWatermark watermark = crawlWatermarkRepository.findByUserIdAndContentUrl(userId, url).orElse(null);
+        boolean incremental = watermark != null
+                && watermark.getRecentExternalIds() != null
+                && watermark.getCoveredFrom() != null
+                && !limitStart.isBefore(watermark.getCoveredFrom());
+        List<String> knownIds = incremental ? splitIds(watermark.getRecentExternalIds()) : List.of();
+
+        // 1. Python AI 서버에 크롤링 요청 (이미 저장된 최신 댓글 구간 또는 기간 시작에 도달하면 중단)
+        // 2. 응답을 스트리밍으로 읽으면서 변환 → 저장 (→ 분석) 파이프라인으로 전달
+        CrawlHead head = new CrawlHead(watermarkIdCount);
+        AtomicInteger decodeFailures = new AtomicInteger();
+        Map<String, Object> pipelineResult = crawlStreamReader.crawl(
+                url, knownIds, watermarkStopAfter, limitStart, crawled -> {
+            Iterable<Comment> decoded = () -> StreamSupport
+                    .stream(Spliterators.spliteratorUnknownSize(crawled, Spliterator.ORDERED), false)
+                    .peek(c -> {
+                        head.add(c);
+                        progress.addCrawled(1);
+                    })
+                    .takeWhile(knownIdStop(knownIds))
+                    .takeWhile(windowStop(limitStart, dates))
+                    .map(c -> toComment(c, url, userId, limitStart, limitEnd, dates, decodeFailures, progress))
+                    .filter(Objects::nonNull)
+                    .iterator();
+            return commentIngestPipeline.run(userId, decoded, analyze, progress);
+        }, CommentService::mergeCounts);
+        System.out.println("[DEBUG] Crawled " + head.count + " comments from Python server"
+                + (incremental ? " (incremental, known ids: " + knownIds.size() + ")" : ""));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("totalCrawled", head.count);
+        result.put("incremental", incremental);
+        result.putAll(pipelineResult);
+        result.put("failCount", (Integer) result.get("failCount") + decodeFailures.get());
+
+        // 3. 전부 저장된 경우에만 기준점 갱신 (실패가 있으면 다음 수집에서 다시 확인)
+        if ((Integer) result.get("failCount") == 0) {
+            updateWatermark(watermark, userId, url, head.comments, limitStart, limitEnd, dates, incremental,
+                    (Integer) result.get("savedCount"));
+        }
+        return result;
+    }
 
-        // 0. 기존 데이터 정리 (별도 트랜잭션으로 처리하여 락 점유 최소화)
-        transactionTemplate.execute(status -> {
-            try {
-                System.out.println("[DEBUG] Clearing COMMENTS table for user: " + userId + " (Keeping History)");
-                commentRepository.deleteByUserId(userId);
-                commentRepository.flush();
-                return null;
-            } catch (Exception e) {
-                System.err.println("[ERROR] Failed to cleanup data: " + e.getMessage());
-                return null;
+    /**
+     * 증분 수집 기준점 갱신
+     * - 현재 시점까지 수집한 경우에만 최신 댓글 ID 갱신 (과거 기간만 수집했다면 그 이후 댓글이 빠져 있음)
+     */
+    private void updateWatermark(CrawlWatermark watermark, Long userId, String url,
+            List<CrawledComment> newestComments, LocalDateTime limitStart, LocalDateTime limitEnd,
+            RelativeDateParser dates, boolean incremental, int savedCount) {
+        CrawlWatermark target = watermark != null ? watermark
+                : CrawlWatermark.builder().userId(userId).contentUrl(url).build();
+
+        if (!limitEnd.isBefore(LocalDate.now().atStartOfDay())) {
+            // 새 댓글 ID + 이전 기준점 ID (새 댓글이 적어도 기준점 ID 수 유지)
+            Set<String> newestIds = new LinkedHashSet<>();
+            newestComments.stream()
+                    .map(CrawledComment::getExternalId)
+                    .filter(id -> id != null && !id.isEmpty())
+                    .limit(watermarkIdCount)
+                    .forEach(newestIds::add);
+            if (incremental) {
+                splitIds(target.getRecentExternalIds()).forEach(newestIds::add);
             }
-        });
+            if (!newestIds.isEmpty()) {
+                target.setRecentExternalIds(String.join(",", newestIds.stream().limit(watermarkIdCount).toList()));
+            }
+            if (target.getRecentExternalIds() != null) {
+                target.setCoveredFrom(incremental && target.getCoveredFrom() != null
+                        && target.getCoveredFrom().isBefore(limitStart)
+                                ? target.getCoveredFrom()
+                                : limitStart);
+            }
+        }
 
-        // 1. Python AI 서버에 크롤링 요청
-        List<Map<String, Object>> crawledComments = crawlYoutubeComments(url);
+        newestComments.stream()
+                .map(c -> dates.parse(c.getPublishDate()))
+                .max(Comparator.naturalOrder())
+                .filter(newest -> target.getNewestCommentedAt() == null
+                        || newest.isAfter(target.getNewestCommentedAt()))
+                .ifPresent(target::setNewestCommentedAt);
+        target.setLastCrawledAt(LocalDateTime.now());
+        target.setLastNewCount(savedCount);
 
-        // 2. DB 저장 및 분석
-        return transactionTemplate.execute(txStatus -> {
-            int successCount = 0;
-            int failCount = 0;
-            int skippedCount = 0;
+        try {
+            transactionTemplate.executeWithoutResult(status -> crawlWatermarkRepository.save(target));
+        } catch (Exception e) {
+            // 동시에 같은 URL 을 처음 수집한 경우 (유니크 제약) → 다음 수집은 전체 수집 후 중복 제거
+            System.err.println("[ERROR] Failed to update crawl watermark: " + e.getMessage());
+        }
+    }
 
-            for (Map<String, Object> c : crawledComments) {
-                try {
-                    String text = (String) c.get("text");
-                    String author = (String) c.get("author");
-                    String externalId = (String) c.get("external_id");
-                    String publishDateStr = (String) c.get("publish_date");
+    /**
+     * 최신순 수집 결과에서 기간 시작보다 오래된 댓글이 연속으로 나오면 이후는 건너뜀
+     * (크롤러가 since 를 지원하지 않거나, 더 긴 기간의 공유 크롤링 결과를 읽는 경우)
+     */
+    private Predicate<CrawledComment> windowStop(LocalDateTime limitStart, RelativeDateParser dates) {
+        int[] consecutive = { 0 };
+        return c -> {
+            if (dates.parse(c.getPublishDate()).isBefore(limitStart)) {
+                return ++consecutive[0] < windowStopAfter;
+            }
+            consecutive[0] = 0;
+            return true;
+        };
+    }
 
-                    if (text == null || text.trim().isEmpty())
-                        continue;
+    /**
+     * 최신순 수집 결과에서 이미 저장된 댓글 ID 가 연속으로 나오면 이후는 건너뜀
+     * (Python 크롤러가 known_ids 를 지원하지 않는 경우에도 동일하게 동작)
+     */
+    private Predicate<CrawledComment> knownIdStop(List<String> knownIds) {
+        if (knownIds.isEmpty()) {
+            return c -> true;
+        }
+        Set<String> known = new HashSet<>(knownIds);
+        int stopAfter = Math.min(watermarkStopAfter, known.size());
+        int[] consecutive = { 0 };
+        return c -> {
+            if (known.contains(c.getExternalId())) {
+                return ++consecutive[0] < stopAfter;
+            }
+            consecutive[0] = 0;
+            return true;
+        };
+    }
 
-                    LocalDateTime commentedAt = parseRelativeDate(publishDateStr);
+    private static List<String> splitIds(String ids) {
+        return Arrays.stream(ids.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .toList();
+    }
 
-                    if (commentedAt.isBefore(limitStart) || commentedAt.isAfter(limitEnd)) {
-                        continue;
-                    }
+    /**
+     * 크롤링 결과 1건 → Comment 변환 (내용 없음 / 기간 밖이면 null)
+     */
+    private Comment toComment(CrawledComment c, String url, Long userId, LocalDateTime limitStart,
+            LocalDateTime limitEnd, RelativeDateParser dates, AtomicInteger decodeFailures, JobProgress progress) {
+        try {
+            String text = c.getText();
+            String author = c.getAuthor();
+            String externalId = c.getExternalId();
+            String publishDateStr = c.getPublishDate();
 
-                    if (externalId != null && !externalId.isEmpty()
-                            && commentRepository.existsByUserIdAndExternalCommentId(userId, externalId)) {
-                        skippedCount++;
-                        continue;
-                    }
+            if (text == null || text.trim().isEmpty())
+                return null;
 
-                    Comment comment = Comment.builder()
-                            .userId(userId)
-                            .platform("YOUTUBE")
-                            .contentUrl(url)
-                            .authorName(author)
-                            .authorIdentifier(author)
-                            .externalCommentId(
-                                    externalId != null && !externalId.isEmpty() ? externalId
-                                            : UUID.randomUUID().toString())
-                            .content(text)
-                            .commentedAt(commentedAt)
-                            .isAnalyzed(false)
-                            .isMalicious(false)
-                            .createdAt(LocalDateTime.now().withNano(0))
-                            .build();
-
-                    commentRepository.save(comment);
-                    successCount++;
-
-                } catch (Exception e) {
-                    failCount++;
-                    e.printStackTrace();
-                }
+            LocalDateTime commentedAt = dates.parse(publishDateStr);
+
+            if (commentedAt.isBefore(limitStart) || commentedAt.isAfter(limitEnd)) {
+                return null;
             }
 
-            return Map.of(
-                    "totalCrawled", crawledComments.size(),
-                    "savedCount", successCount,
-                    "skippedCount", skippedCount,
-                    "failCount", failCount);
+            return Comment.builder()
+                    .userId(userId)
+                    .platform("YOUTUBE")
+                    .contentUrl(url)
+                    .authorName(author)
+                    .authorIdentifier(author)
+                    .externalCommentId(
+                            externalId != null && !externalId.isEmpty() ? externalId
+                                    : UUID.randomUUID().toString())
+                    .content(text)
+                    .commentedAt(commentedAt)
+                    .likeCount(c.getLikeCount() != null ? c.getLikeCount() : 0)
+                    .isAnalyzed(false)
+                    .isMalicious(false)
+                    .createdAt(LocalDateTime.now().withNano(0))
+                    .build();
+
+        } catch (Exception e) {
+            decodeFailures.incrementAndGet();
+            progress.addFailed(1);
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    @PostConstruct
+    void registerCrawlJobResumer() {
+        // 실행 인스턴스가 종료되어 중단된 크롤링 작업은 같은 요청으로 처음부터 다시 실행
+        // (이미 저장된 댓글은 중복 제거로 건너뛰고, 기준점은 완료 전까지 갱신되지 않음)
+        analysisJobService.registerResumer(AnalysisJob.JobType.CRAWL, (job, progress) -> {
+            Map<String, Object> params = analysisJobService.readParams(job);
+            Map<String, Object> summary = new LinkedHashMap<>(crawlAndAnalyzeAll(job.getContentUrl(),
+                    job.getUserId(), (String) params.get("startDate"), (String) params.get("endDate"), progress));
+            summary.put("resumed", true);
+            return summary;
         });
     }
 
+    /**
+     * 크롤링 + 분석 비동기 작업 등록
+     */
+    public AnalysisJob submitCrawlJob(String url, Long userId, String startDateStr, String endDateStr) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("startDate", startDateStr);
+        params.put("endDate", endDateStr);
+        return analysisJobService.submit(userId, AnalysisJob.JobType.CRAWL, url, params,
+                progress -> crawlAndAnalyzeAll(url, userId, startDateStr, endDateStr, progress));
+    }
+
+    /**
+     * 크롤링 후 저장된 댓글을 바로 분석 (비동기 작업용)
+     * 저장과 분석이 파이프라인으로 겹쳐서 진행됨
+     */
+    public Map<String, Object> crawlAndAnalyzeAll(String url, Long userId, String startDateStr, String endDateStr,
+            JobProgress progress) {
+        return crawlAndAnalyze(url, userId, startDateStr, endDateStr, true, progress);
+    }
+
     /**
      * 다수 댓글 대량 분석
      */
     public Map<String, Object> analyzeBulk(Long userId, List<Long> commentIds) {
+        return analyzeBulk(userId, commentIds, null);
+    }
+
+    /**
+     * 다수 댓글 대량 분석 (요청별 동시 실행 수 지정)
+     * concurrency 는 parallel 모드에서만 사용하며 설정값을 넘을 수 없음
+     */
+    public Map<String, Object> analyzeBulk(Long userId, List<Long> commentIds, Integer concurrency) {
+        return analyzeBulk(userId, commentIds, concurrency, JobProgress.noop());
+    }
+
+    /**
+     * 다수 댓글 대량 분석 (진행률 보고)
+     */
+    public Map<String, Object> analyzeBulk(Long userId, List<Long> commentIds, Integer concurrency,
+            JobProgress progress) {
+        progress.addTotal(commentIds.size());
+
+        if ("parallel".equalsIgnoreCase(analyzeBulkMode)) {
+            int cap = concurrency != null && concurrency > 0
+                    ? Math.min(concurrency, parallelConcurrency)
+                    : parallelConcurrency;
+            return analyzeBulkParallel(userId, commentIds, cap, progress);
+        }
+        if ("reactive".equalsIgnoreCase(analyzeBulkMode)) {
+            return analyzeBulkReactive(userId, commentIds, progress);
+        }
+
         int analyzedCount = 0;
         int errorCount = 0;
         List<AnalysisResult> results = new ArrayList<>();
@@ -134,8 +366,10 @@ public class CommentService {
                 AnalysisResult res = analysisService.analyzeComment(id, userId);
                 results.add(res);
                 analyzedCount++;
+                progress.addAnalyzed(1);
             } catch (Exception e) {
                 errorCount++;
+                progress.addFailed(1);
                 System.err.println("[ERROR] Failed to analyze comment " + id + ": " + e.getMessage());
             }
         }
@@ -147,90 +381,156 @@ public class CommentService {
     }
 
     /**
-     * YouTube의 상대적 시간 문자열(예: "1일 전", "2주 전")을 LocalDateTime으로 변환
+     * 다수 댓글 대량 분석 (parallel 모드)
+     * 공유 스레드 풀에서 analyzeComment 를 실행하되, 요청 하나가 동시에 점유하는 작업 수는 concurrency 로 제한
      */
-    private LocalDateTime parseRelativeDate(String relativeTime) {
-        LocalDateTime now = LocalDateTime.now().withNano(0);
-        if (relativeTime == null || relativeTime.isEmpty())
-            return now;
+    private Map<String, Object> analyzeBulkParallel(Long userId, List<Long> commentIds, int concurrency,
+            JobProgress progress) {
+        Semaphore permits = new Semaphore(concurrency);
+        List<Future<AnalysisResult>> futures = new ArrayList<>(commentIds.size());
 
-        try {
-            // 절대 날짜 형식 처리 (예: "2024. 1. 20.", "2024-01-20")
-            String cleanDate = relativeTime.replaceAll("[^0-9.\\-]", "");
-            if (cleanDate.matches("\\d{4}[.\\-]\\d{1,2}[.\\-]\\d{1,2}.?")) {
-                String[] parts = cleanDate.split("[.\\-]");
-                int year = Integer.parseInt(parts[0]);
-                int month = Integer.parseInt(parts[1]);
-                int day = Integer.parseInt(parts[2].replaceAll("[^0-9]", ""));
-                return java.time.LocalDate.of(year, month, day).atStartOfDay();
+        for (Long id : commentIds) {
+            permits.acquireUninterruptibly();
+            try {
+                futures.add(analysisExecutor.submit(() -> {
+                    try {
+                        AnalysisResult res = analysisService.analyzeComment(id, userId);
+                        progress.addAnalyzed(1);
+                        return res;
+                    } catch (Exception e) {
+                        progress.addFailed(1);
+                        throw e;
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                progress.addFailed(1);
+                futures.add(CompletableFuture.failedFuture(e));
             }
+        }
+
+        int analyzedCount = 0;
+        int errorCount = 0;
+        List<AnalysisResult> results = new ArrayList<>();
 
-            // 상대적 시간 처리
-            String numericPart = relativeTime.replaceAll("[^0-9]", "");
-            int amount = numericPart.isEmpty() ? 1 : Integer.parseInt(numericPart);
-
-            String timeStr = relativeTime.toLowerCase();
-            if (timeStr.contains("초") || timeStr.contains("second")) {
-                return now.minusSeconds(amount);
-            } else if (timeStr.contains("분") || timeStr.contains("minute")) {
-                return now.minusMinutes(amount);
-            } else if (timeStr.contains("시간") || timeStr.contains("hour")) {
-                return now.minusHours(amount);
-            } else if (timeStr.contains("일") || timeStr.contains("day")) {
-                return now.minusDays(amount);
-            } else if (timeStr.contains("주") || timeStr.contains("week")) {
-                return now.minusWeeks(amount);
-            } else if (timeStr.contains("달") || timeStr.contains("개월") || timeStr.contains("month")) {
-                return now.minusMonths(amount);
-            } else if (timeStr.contains("년") || timeStr.contains("year")) {
-                return now.minusYears(amount);
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.add(futures.get(i).get());
+                analyzedCount++;
+            } catch (ExecutionException e) {
+                errorCount++;
+                System.err.println("[ERROR] Failed to analyze comment " + commentIds.get(i) + ": "
+                        + e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                errorCount++;
             }
-        } catch (Exception e) {
-            System.err.println("Failed to parse date: " + relativeTime + " - " + e.getMessage());
         }
-        return now;
+
+        return Map.of(
+                "analyzedCount", analyzedCount,
+                "errorCount", errorCount,
+                "results", results);
     }
 
     /**
-     * Python 크롤러 호출
+     * 다수 댓글 대량 분석 (reactive 모드)
+     * AI 호출은 WebClient로 동시에 보내고, 결과 저장만 호출 스레드에서 순서대로 처리
      */
-    private List<Map<String, Object>> crawlYoutubeComments(String url) {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            Map<String, String> request = Map.of("url", url);
-            HttpEntity<Map<String, String>> entity = new HttpEntity<>(request, headers);
-
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    aiServiceUrl + "/crawl/youtube",
-                    HttpMethod.POST,
-                    entity,
-                    Map.class);
-
-            Map<String, Object> body = response.getBody();
-            if (body != null && "success".equals(body.get("status"))) {
-                return (List<Map<String, Object>>) body.get("comments");
+    private Map<String, Object> analyzeBulkReactive(Long userId, List<Long> commentIds, JobProgress progress) {
+        List<Comment> comments = commentRepository.findAllById(commentIds);
+        BlockedWordDictionary dictionary = blockedWordService.getDictionary(userId);
+
+        // 다른 사용자가 같은 텍스트로 이미 받은 공용 모델 판정 (쿼리 1회)
+        Map<Long, String> sharedTexts = new HashMap<>();
+        for (Comment comment : comments) {
+            if (comment.getSharedCommentId() != null) {
+                sharedTexts.put(comment.getSharedCommentId(), comment.getContent());
             }
+        }
+        Map<Long, Map<String, Object>> sharedVerdicts = sharedCommentService.findModelVerdicts(sharedTexts);
+        Map<Long, Map<String, Object>> freshVerdicts = new ConcurrentHashMap<>();
+
+        // 존재하지 않는 댓글은 기존과 동일하게 오류로 집계
+        AtomicInteger errorCount = new AtomicInteger(commentIds.size() - comments.size());
+        progress.addFailed(errorCount.get());
+
+        List<Map.Entry<Comment, Map<String, Object>>> verdicts = Flux.fromIterable(comments)
+                .flatMap(comment -> scoreTextAsync(comment, dictionary, sharedVerdicts,
+                        freshVerdicts)
+                        .map(aiResult -> Map.entry(comment, aiResult))
+                        .onErrorResume(e -> {
+                            errorCount.incrementAndGet();
+                            progress.addFailed(1);
+                            System.err.println("[ERROR] Failed to analyze comment " + comment.getCommentId() + ": "
+                                    + e.getMessage());
+                            return Mono.empty();
+                        }), Math.min(reactiveConcurrency, aiCircuitBreaker.getMaxConcurrent()))
+                .collectList()
+                .block();
+
+        // 새로 받은 모델 판정은 호출 스레드에서 공용 댓글에 저장
+        freshVerdicts.forEach((sharedCommentId, modelVerdict) ->
+                sharedCommentService.saveModelVerdict(sharedCommentId, sharedTexts.get(sharedCommentId), modelVerdict));
 
-            return List.of();
-
-        } catch (Exception e) {
-            throw new RuntimeException("Crawling failed: " + e.getMessage());
+        int analyzedCount = 0;
+        List<AnalysisResult> results = new ArrayList<>();
+        for (Map.Entry<Comment, Map<String, Object>> verdict : verdicts) {
+            try {
+                results.add(analysisService.saveAnalysisResult(verdict.getKey(), userId, verdict.getValue()));
+                analyzedCount++;
+                progress.addAnalyzed(1);
+            } catch (Exception e) {
+                errorCount.incrementAndGet();
+                progress.addFailed(1);
+                System.err.println("[ERROR] Failed to save analysis for comment " + verdict.getKey().getCommentId()
+                        + ": " + e.getMessage());
+            }
         }
+
+        return Map.of(
+                "analyzedCount", analyzedCount,
+                "errorCount", errorCount.get(),
+                "results", results);
     }
 
     /**
-     * 댓글 목록 조회 (차단 단어 체크 포함)
+     * 로컬 사전 분류 후 애매한 텍스트만 공용 판정 재사용 또는 AI 서비스로 전달 (reactive)
+     * AI 는 차단 단어 없이 호출하고, 사용자 차단 단어 판정은 결과에 덧씌움
      */
+    private Mono<Map<String, Object>> scoreTextAsync(Comment comment, BlockedWordDictionary dictionary,
+            Map<Long, Map<String, Object>> sharedVerdicts,
+            Map<Long, Map<String, Object>> freshVerdicts) {
+        String text = comment.getContent();
+        Map<String, Object> preFiltered = commentPreFilter.classify(text, dictionary);
+        if (preFiltered != null) {
+            return Mono.just(preFiltered);
+        }
+        Long sharedCommentId = comment.getSharedCommentId();
+        Map<String, Object> shared = sharedCommentId != null ? sharedVerdicts.get(sharedCommentId) : null;
+        if (shared != null) {
+            return Mono.just(SharedCommentService.applyBlockedWords(text, shared, dictionary));
+        }
+        return reactiveAIClient.analyzeText(text, List.of())
+                .doOnNext(modelVerdict -> {
+                    if (sharedCommentId != null) {
+                        freshVerdicts.put(sharedCommentId, modelVerdict);
+                    }
+                })
+                .map(modelVerdict -> SharedCommentService.applyBlockedWords(text, modelVerdict, dictionary));
+    }
+
     /**
-     * 댓글 목록 조회
+     * 댓글 목록 조회 (containsBlockedWord 가 있으면 저장된 차단 단어 매칭 결과로 필터)
      */
     @Transactional(readOnly = true)
     public Page<Comment> getComments(Long userId, String url, String startDateStr, String endDateStr,
-            Boolean isMalicious, Pageable pageable) {
+            Boolean isMalicious, Boolean containsBlockedWord, Pageable pageable) {
         System.out.println("[DEBUG] getComments with period: " + startDateStr + " ~ " + endDateStr + ", isMalicious: "
-                + isMalicious + ", page: " + pageable.getPageNumber());
+                + isMalicious + ", containsBlockedWord: " + containsBlockedWord + ", page: "
+                + pageable.getPageNumber());
 
         // 날짜 파싱 (기본값 설정)
         java.time.LocalDateTime start = (startDateStr != null && !startDateStr.isEmpty())
@@ -242,7 +542,12 @@ public class CommentService {
 
         Page<Comment> commentsPage;
 
-        if (url != null && !url.isEmpty()) {
+        if (containsBlockedWord != null) {
+            // 저장된 차단 단어 매칭 결과로 SQL 필터 (페이지/전체 개수 정확)
+            String urlFilter = (url != null && !url.isEmpty()) ? url : null;
+            commentsPage = commentRepository.findByBlockedWordFilter(userId, urlFilter, isMalicious,
+                    containsBlockedWord, start, end, pageable);
+        } else if (url != null && !url.isEmpty()) {
             System.out.println("[DEBUG] Querying by URL: [" + url + "], range: " + start + " ~ " + end);
             if (isMalicious != null) {
                 commentsPage = commentRepository.findByUserIdAndContentUrlAndIsMaliciousAndCommentedAtBetween(userId,
@@ -265,59 +570,101 @@ public class CommentService {
 
         System.out.println("[DEBUG] Found comments count: " + commentsPage.getTotalElements());
 
-        // 🔥 차단 단어 체크 (blockedWords)
-        List<BlockedWord> blockedWords = blockedWordService.getActiveBlockedWords(userId);
-        for (Comment comment : commentsPage.getContent()) {
-            checkBlockedWords(comment, blockedWords);
-        }
-
         return commentsPage;
     }
 
     /**
-     * 댓글에 차단 단어 포함 여부 체크
+     * 댓글 삭제 (분석 결과 포함)
      */
-    private void checkBlockedWords(Comment comment, List<BlockedWord> blockedWords) {
-        if (comment.getContent() == null || blockedWords.isEmpty()) {
-            return;
-        }
-
-        String content = comment.getContent().toLowerCase();
-
-        for (BlockedWord word : blockedWords) {
-            if (content.contains(word.getWord().toLowerCase())) {
-                comment.setContainsBlockedWord(true);
-                comment.setMatchedBlockedWord(word.getWord());
-                return;
-            }
-        }
+    @Transactional
+    public void deleteComment(Long commentId) {
+        commentBatchRepository.deleteCommentsByIds(List.of(commentId));
     }
 
     /**
-     * 댓글 삭제
+     * 댓글 다중 삭제 (Batch, 분석 결과 포함, 한 트랜잭션)
      */
     @Transactional
-    public void deleteComment(Long commentId) {
-        commentRepository.deleteById(commentId);
+    public int deleteComments(List<Long> commentIds) {
+        List<Long> ids = commentIds.stream().filter(Objects::nonNull).distinct().toList();
+        int deleted = 0;
+        for (int from = 0; from < ids.size(); from += deleteChunkSize) {
+            deleted += commentBatchRepository.deleteCommentsByIds(
+                    ids.subList(from, Math.min(ids.size(), from + deleteChunkSize)));
+        }
+        return deleted;
     }
 
     /**
-     * 댓글 다중 삭제 (Batch)
+     * 댓글 전체 삭제 (By URL or All)
+     * - 댓글 ID 오름차순 chunk 단위로 분석 결과/분석 작업과 함께 삭제하고 chunk 마다 커밋 (잠금 시간 최소화)
+     * - 중간에 실패해도 다시 호출하면 남은 댓글부터 이어서 삭제
      */
-    @Transactional
-    public void deleteComments(List<Long> commentIds) {
-        commentRepository.deleteAllById(commentIds);
+    public int deleteAllComments(Long userId, String url) {
+        String targetUrl = (url != null && !url.isEmpty()) ? url : null;
+
+        // 삭제 후 다시 수집하면 전체를 가져오도록 기준점 먼저 삭제
+        transactionTemplate.executeWithoutResult(status -> {
+            if (targetUrl != null) {
+                crawlWatermarkRepository.deleteByUserIdAndContentUrl(userId, targetUrl);
+            } else {
+                crawlWatermarkRepository.deleteByUserId(userId);
+            }
+        });
+
+        int deleted = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = commentBatchRepository.findCommentIdChunk(userId, targetUrl, afterId, deleteChunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            Integer count = transactionTemplate.execute(status -> commentBatchRepository.deleteCommentsByIds(ids));
+            deleted += count != null ? count : 0;
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        // 전체 삭제면 댓글 없이 남아 있던 분석 결과도 정리
+        if (targetUrl == null) {
+            Integer removed;
+            do {
+                removed = transactionTemplate.execute(
+                        status -> commentBatchRepository.deleteAnalysisResultsByUser(userId, deleteChunkSize));
+            } while (removed != null && removed > 0);
+        }
+
+        System.out.println("[DEBUG] Deleted " + deleted + " comments for userId: " + userId
+                + (targetUrl != null ? ", url: " + targetUrl : ""));
+        return deleted;
     }
 
     /**
-     * 댓글 전체 삭제 (By URL or All)
+     * 크롤링 응답 앞부분 (최신 댓글 N건) + 전체 건수 (기준점 갱신용, 나머지는 보관하지 않음)
      */
-    @Transactional
-    public void deleteAllComments(Long userId, String url) {
-        if (url != null && !url.isEmpty()) {
-            commentRepository.deleteByUserIdAndContentUrl(userId, url);
-        } else {
-            commentRepository.deleteByUserId(userId);
+    /**
+     * 파이프라인 결과 2개 합치기 (공유 크롤링이 끊겨 나머지를 직접 수집한 경우, 정수 값은 더하고 나머지는 뒤 값)
+     */
+    private static Map<String, Object> mergeCounts(Map<String, Object> first, Map<String, Object> second) {
+        Map<String, Object> merged = new LinkedHashMap<>(first);
+        second.forEach((key, value) -> merged.merge(key, value,
+                (a, b) -> a instanceof Integer x && b instanceof Integer y ? (Object) (x + y) : b));
+        return merged;
+    }
+
+    private static class CrawlHead {
+        private final int limit;
+        private final List<CrawledComment> comments = new ArrayList<>();
+        private int count;
+
+        CrawlHead(int limit) {
+            this.limit = limit;
+        }
+
+        void add(CrawledComment comment) {
+            if (comments.size() < limit) {
+                comments.add(comment);
+            }
+            count++;
         }
     }
 }
@@ -0,0 +1,585 @@
+// ==================== CrawlStreamReader.java ====================
+package com.sns.analyzer.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sns.analyzer.dto.CrawlDTO.CrawledComment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * /crawl/youtube 응답 스트리밍 디코더
+ * - 응답 전체를 Map/List 로 만들지 않고 JsonParser 로 댓글을 하나씩 읽어 전달
+ * - NDJSON(application/x-ndjson, 한 줄에 댓글 하나) 과 기존 JSON({status, comments: [...]}) 모두 지원
+ * - 읽은 댓글은 바로 수집 파이프라인으로 넘어가므로 힙 사용량은 영상 크기와 무관
+ * - 같은 영상(정규화 URL)을 동시에 크롤링하면 먼저 시작한 요청(leader)만 크롤러를 호출하고,
+ *   나머지는 leader 가 읽은 댓글을 함께 읽음 (single-flight). 끝난 결과는 잠시 보관해 연속 요청도 흡수
+ * - leader 는 처음부터 cache-max-comments 개까지만 기록 (넘으면 새 요청은 합류 불가, 이미 합류한 요청이
+ *   읽을 동안만 기록을 유지). leader 가 중간에 멈추면 "N 개에서 끊김" 으로 끝내고, 더 필요한 요청은 직접 크롤링해
+ *   이미 읽은 댓글을 건너뛴 나머지를 같은 consumer 로 한 번 더 처리한 뒤 두 결과를 합침
+ * - 수집 기간 시작(since)을 함께 보내 크롤러가 그보다 오래된 구간에 도달하면 멈추도록 함 (최신순)
+ */
+@Component
+@RequiredArgsConstructor
+public class CrawlStreamReader {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    // watch?v=ID, youtu.be/ID, /shorts/ID, /embed/ID, /live/ID
+    private static final Pattern YOUTUBE_VIDEO_ID = Pattern.compile(
+            "(?:[?&]v=|youtu\\.be/|/shorts/|/embed/|/live/)([A-Za-z0-9_-]{11})");
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${ai.service.url:http://localhost:8000}")
+    private String aiServiceUrl;
+
+    // since 보다 오래된 댓글이 이 개수만큼 연속으로 나오면 크롤러가 중단 (고정 댓글 대비)
+    @Value("${comment.crawl.window-stop-after:3}")
+    private int windowStopAfter;
+
+    @Value("${comment.crawl.coalesce.enabled:true}")
+    private boolean coalesceEnabled;
+
+    // 끝난 크롤링 결과 보관 시간 (짧은 간격의 반복 요청 흡수)
+    @Value("${comment.crawl.coalesce.cache-ttl-seconds:30}")
+    private long cacheTtlSeconds;
+
+    // 처음부터 기록하는 최대 댓글 수 (넘으면 새 요청 합류 불가, 끝난 뒤 보관하지 않음)
+    @Value("${comment.crawl.coalesce.cache-max-comments:20000}")
+    private int cacheMaxComments;
+
+    // 정규화 URL → 진행 중이거나 보관 중인 크롤링
+    private final Map<String, List<Flight>> flights = new HashMap<>();
+    private final AtomicLong crawlsStarted = new AtomicLong();
+    private final AtomicLong crawlsJoined = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong truncatedFallbacks = new AtomicLong();
+
+    /**
+     * 크롤링 요청 후 댓글 Iterator 를 consumer 에 전달 (응답을 읽는 동안 consumer 가 실행됨)
+     * 같은 영상을 이미 크롤링 중이거나 방금 끝냈으면 그 결과를 공유
+     * 공유한 크롤링이 필요한 지점 전에 끊겼으면 직접 크롤링해 이미 받은 댓글(외부 ID 기준)을 뺀 나머지로
+     * consumer 를 한 번 더 실행하고 merge(앞부분 결과, 나머지 결과) 반환 → 같은 댓글을 두 번 넘기지 않음
+     *
+     * @param since 수집 기간 시작 (null 이면 끝까지 수집)
+     */
+    public <T> T crawl(String url, List<String> knownIds, int stopAfterKnown, LocalDateTime since,
+            Function<Iterator<CrawledComment>, T> consumer, BinaryOperator<T> merge) {
+        if (!coalesceEnabled) {
+            return fetch(url, knownIds, stopAfterKnown, since, consumer);
+        }
+
+        String key = normalizeUrl(url);
+        Set<String> known = Set.copyOf(knownIds);
+        Flight flight = null;
+        Flight.Reader reader = null;
+        synchronized (flights) {
+            evictExpired();
+            List<Flight> candidates = flights.getOrDefault(key, List.of());
+            for (Flight candidate : candidates) {
+                if (candidate.covers(known, since) && (reader = candidate.attach()) != null) {
+                    flight = candidate;
+                    break;
+                }
+            }
+            if (flight == null) {
+                flight = new Flight(known, since, cacheMaxComments);
+                flights.computeIfAbsent(key, k -> new ArrayList<>()).add(flight);
+            }
+        }
+
+        if (reader != null) {
+            if (flight.isDone()) {
+                cacheHits.incrementAndGet();
+            } else {
+                crawlsJoined.incrementAndGet();
+            }
+            T partial;
+            try {
+                partial = consumer.apply(reader);
+            } finally {
+                reader.detach();
+            }
+            if (!reader.isTruncated()) {
+                return partial;
+            }
+            truncatedFallbacks.incrementAndGet();
+            Set<String> delivered = reader.getDeliveredIds();
+            System.out.println("[DEBUG] Shared crawl of " + key + " truncated at " + delivered.size()
+                    + ", fetching the rest directly");
+            T rest = fetch(url, knownIds, stopAfterKnown, since,
+                    comments -> consumer.apply(skipping(comments, delivered)));
+            return merge.apply(partial, rest);
+        }
+
+        crawlsStarted.incrementAndGet();
+        Flight leader = flight;
+        try {
+            // leader 가 중간에 멈추면 나머지는 읽지 않음 (parser close 로 연결을 끊어 크롤러도 중단)
+            T result = fetch(url, knownIds, stopAfterKnown, since,
+                    comments -> consumer.apply(leader.recording(comments)));
+            leader.complete(null);
+            return result;
+        } catch (RuntimeException e) {
+            leader.complete(e);
+            throw e;
+        } finally {
+            synchronized (flights) {
+                if (leader.getFailure() != null || !leader.isJoinable()) {
+                    removeFlight(key, leader);
+                }
+            }
+        }
+    }
+
+    /**
+     * 정규화 URL (유튜브는 영상 ID, 그 외는 fragment/끝 슬래시 제거 후 소문자 host)
+     */
+    static String normalizeUrl(String url) {
+        String trimmed = url.trim();
+        Matcher matcher = YOUTUBE_VIDEO_ID.matcher(trimmed);
+        if (matcher.find()) {
+            return "youtube:" + matcher.group(1);
+        }
+        try {
+            URI uri = URI.create(trimmed);
+            String host = uri.getHost() != null ? uri.getHost().toLowerCase() : "";
+            String path = uri.getPath() != null ? uri.getPath().replaceAll("/+$", "") : "";
+            return host + path + (uri.getQuery() != null ? "?" + uri.getQuery() : "");
+        } catch (IllegalArgumentException e) {
+            return trimmed;
+        }
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        flights.values().removeIf(list -> {
+            list.removeIf(flight -> flight.isExpired(now, cacheTtlSeconds * 1000));
+            return list.isEmpty();
+        });
+    }
+
+    private void removeFlight(String key, Flight flight) {
+        List<Flight> list = flights.get(key);
+        if (list != null) {
+            list.remove(flight);
+            if (list.isEmpty()) {
+                flights.remove(key);
+            }
+        }
+    }
+
+    /**
+     * single-flight 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("coalesceEnabled", coalesceEnabled);
+        stats.put("crawlsStarted", crawlsStarted.get());
+        stats.put("crawlsJoined", crawlsJoined.get());
+        stats.put("cacheHits", cacheHits.get());
+        stats.put("truncatedFallbacks", truncatedFallbacks.get());
+        synchronized (flights) {
+            stats.put("trackedUrls", flights.size());
+        }
+        return stats;
+    }
+
+    /**
+     * 크롤러 호출 (공유 없이)
+     */
+    private <T> T fetch(String url, List<String> knownIds, int stopAfterKnown, LocalDateTime since,
+            Function<Iterator<CrawledComment>, T> consumer) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("url", url);
+        request.put("known_ids", knownIds);
+        request.put("stop_after_known", stopAfterKnown);
+        request.put("stream", true);
+        if (since != null) {
+            request.put("since", since.withNano(0).toString());
+            request.put("stop_after_older", windowStopAfter);
+        }
+
+        try {
+            return restTemplate.execute(aiServiceUrl + "/crawl/youtube", HttpMethod.POST,
+                    clientRequest -> {
+                        clientRequest.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                        clientRequest.getHeaders().setAccept(List.of(NDJSON, MediaType.APPLICATION_JSON));
+                        clientRequest.getBody().write(objectMapper.writeValueAsBytes(request));
+                    },
+                    response -> {
+                        JsonFactory factory = objectMapper.getFactory();
+                        try (JsonParser parser = factory.createParser(response.getBody())) {
+                            MediaType contentType = response.getHeaders().getContentType();
+                            boolean ndjson = contentType != null && NDJSON.includes(contentType);
+                            return consumer.apply(new CommentIterator(parser, ndjson));
+                        }
+                    });
+        } catch (UncheckedIOException e) {
+            throw new RuntimeException("Crawling failed: " + e.getCause().getMessage());
+        } catch (RestClientException e) {
+            throw new RuntimeException("Crawling failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 외부 ID 가 skip 에 있는 댓글을 건너뛰는 Iterator
+     */
+    private static Iterator<CrawledComment> skipping(Iterator<CrawledComment> source, Set<String> skip) {
+        return new Iterator<>() {
+            private CrawledComment pending;
+
+            @Override
+            public boolean hasNext() {
+                while (pending == null && source.hasNext()) {
+                    CrawledComment comment = source.next();
+                    if (comment.getExternalId() == null || !skip.contains(comment.getExternalId())) {
+                        pending = comment;
+                    }
+                }
+                return pending != null;
+            }
+
+            @Override
+            public CrawledComment next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                CrawledComment comment = pending;
+                pending = null;
+                return comment;
+            }
+        };
+    }
+
+    /**
+     * 크롤링 1회분 (leader 가 읽은 댓글을 순서대로 기록, 함께 읽는 요청은 기록을 따라 읽음)
+     * - 처음부터 recordLimit 개까지는 모두 기록 (그 동안은 새 요청도 합류 가능)
+     * - 넘으면 합류 불가로 바꾸고, 합류한 요청이 모두 읽은 앞부분은 버림 (합류한 요청이 없으면 기록 안 함)
+     */
+    private static class Flight {
+        private final Set<String> knownIds;
+        private final LocalDateTime since;
+        private final int recordLimit;
+        // 기록 중인 댓글 (comments[0] 은 전체 offset 번째 댓글)
+        private final List<CrawledComment> comments = new ArrayList<>();
+        private final List<Reader> readers = new ArrayList<>();
+        private int offset;
+        private int total;
+        private boolean joinable = true;
+        private boolean sourceEnded;
+        private boolean done;
+        private boolean truncated;
+        private RuntimeException failure;
+        private long completedAt;
+
+        Flight(Set<String> knownIds, LocalDateTime since, int recordLimit) {
+            this.knownIds = knownIds;
+            this.since = since;
+            this.recordLimit = recordLimit;
+        }
+
+        /**
+         * 요청을 대신할 수 있는지
+         * - 기준점: 전체 크롤링은 모든 요청을, 증분 크롤링은 같은 기준점 요청만
+         * - 기간: 같거나 더 이른 시점까지 수집한 크롤링만
+         */
+        boolean covers(Set<String> knownIds, LocalDateTime since) {
+            boolean coversIds = this.knownIds.isEmpty() || this.knownIds.equals(knownIds);
+            boolean coversWindow = this.since == null || (since != null && !this.since.isAfter(since));
+            return coversIds && coversWindow;
+        }
+
+        synchronized boolean isDone() {
+            return done;
+        }
+
+        synchronized boolean isJoinable() {
+            return joinable;
+        }
+
+        synchronized RuntimeException getFailure() {
+            return failure;
+        }
+
+        synchronized boolean isExpired(long now, long ttlMs) {
+            return done && now - completedAt > ttlMs;
+        }
+
+        /**
+         * 함께 읽기 시작 (처음부터 기록이 남아 있고 실패하지 않은 경우만, 아니면 null)
+         */
+        synchronized Reader attach() {
+            if (!joinable || failure != null) {
+                return null;
+            }
+            Reader reader = new Reader();
+            readers.add(reader);
+            return reader;
+        }
+
+        synchronized void add(CrawledComment comment) {
+            comments.add(comment);
+            total++;
+            if (total > recordLimit) {
+                joinable = false;
+            }
+            trim();
+            notifyAll();
+        }
+
+        synchronized void endSource() {
+            sourceEnded = true;
+        }
+
+        /**
+         * 크롤링 종료 (원본을 끝까지 읽지 않고 끝났으면 끊긴 것으로 표시)
+         */
+        synchronized void complete(RuntimeException error) {
+            done = true;
+            failure = error;
+            truncated = error == null && !sourceEnded;
+            completedAt = System.currentTimeMillis();
+            notifyAll();
+        }
+
+        /**
+         * 합류 불가가 된 뒤 모든 reader 가 읽은 앞부분 버림 (절반 이상 쌓였을 때 한 번에)
+         */
+        private void trim() {
+            if (joinable) {
+                return;
+            }
+            int keepFrom = total;
+            for (Reader reader : readers) {
+                keepFrom = Math.min(keepFrom, reader.index);
+            }
+            int drop = keepFrom - offset;
+            if (drop > 0 && drop * 2 >= comments.size()) {
+                comments.subList(0, drop).clear();
+                offset = keepFrom;
+            }
+        }
+
+        /**
+         * leader 용: 원본 Iterator 를 읽으면서 기록
+         */
+        Iterator<CrawledComment> recording(Iterator<CrawledComment> source) {
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    boolean more = source.hasNext();
+                    if (!more) {
+                        endSource();
+                    }
+                    return more;
+                }
+
+                @Override
+                public CrawledComment next() {
+                    CrawledComment comment = source.next();
+                    add(comment);
+                    return comment;
+                }
+            };
+        }
+
+        /**
+         * 함께 읽는 요청용: 기록된 댓글을 처음부터 읽고, 따라잡으면 leader 를 기다림
+         * 끊긴 지점을 넘어 읽으려 하면 끝으로 보고 isTruncated 표시 (넘겨준 댓글의 외부 ID 는 대체 크롤링용으로 기억)
+         */
+        class Reader implements Iterator<CrawledComment> {
+            private final Set<String> deliveredIds = new HashSet<>();
+            private int index;
+            private boolean readerTruncated;
+
+            boolean isTruncated() {
+                return readerTruncated;
+            }
+
+            Set<String> getDeliveredIds() {
+                return deliveredIds;
+            }
+
+            @Override
+            public boolean hasNext() {
+                synchronized (Flight.this) {
+                    while (index >= total && !done) {
+                        try {
+                            Flight.this.wait();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new RuntimeException("Crawling interrupted");
+                        }
+                    }
+                    if (index < total) {
+                        return true;
+                    }
+                    if (failure != null) {
+                        throw new RuntimeException(failure.getMessage(), failure);
+                    }
+                    readerTruncated = truncated;
+                    return false;
+                }
+            }
+
+            @Override
+            public CrawledComment next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                CrawledComment comment;
+                synchronized (Flight.this) {
+                    comment = comments.get(index++ - offset);
+                }
+                if (comment.getExternalId() != null) {
+                    deliveredIds.add(comment.getExternalId());
+                }
+                return comment;
+            }
+
+            /**
+             * 읽기 종료 (기록 유지 대상에서 빠짐)
+             */
+            void detach() {
+                synchronized (Flight.this) {
+                    readers.remove(this);
+                    trim();
+                }
+            }
+        }
+    }
+
+    /**
+     * 댓글을 하나씩 읽는 Iterator (다음 댓글 객체 시작 위치까지만 미리 읽음)
+     */
+    private static class CommentIterator implements Iterator<CrawledComment> {
+        private final JsonParser parser;
+        private final boolean ndjson;
+        private boolean started;
+        private boolean finished;
+        private boolean hasPending;
+
+        CommentIterator(JsonParser parser, boolean ndjson) {
+            this.parser = parser;
+            this.ndjson = ndjson;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (hasPending) {
+                return true;
+            }
+            if (finished) {
+                return false;
+            }
+            try {
+                hasPending = ndjson ? advanceNdjson() : advanceJson();
+                finished = !hasPending;
+                return hasPending;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public CrawledComment next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            hasPending = false;
+            try {
+                return readComment();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * NDJSON: 다음 줄의 객체 시작 위치로 이동
+         */
+        private boolean advanceNdjson() throws IOException {
+            return parser.nextToken() == JsonToken.START_OBJECT;
+        }
+
+        /**
+         * JSON: 처음에는 comments 배열 시작까지 이동, 이후 배열의 다음 객체로 이동
+         */
+        private boolean advanceJson() throws IOException {
+            if (!started) {
+                started = true;
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    throw new IOException("Unexpected crawler response");
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if ("status".equals(field) && !"success".equals(parser.getValueAsString())) {
+                        return false;
+                    }
+                    if ("comments".equals(field) && value == JsonToken.START_ARRAY) {
+                        break;
+                    }
+                    parser.skipChildren();
+                }
+                if (parser.currentToken() != JsonToken.START_ARRAY) {
+                    return false;
+                }
+            }
+            return parser.nextToken() == JsonToken.START_OBJECT;
+        }
+
+        private CrawledComment readComment() throws IOException {
+            String externalId = null;
+            String author = null;
+            String text = null;
+            String publishDate = null;
+            String authorId = null;
+            Integer likeCount = null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "external_id" -> externalId = parser.getValueAsString();
+                    case "author" -> author = parser.getValueAsString();
+                    case "text" -> text = parser.getValueAsString();
+                    case "publish_date" -> publishDate = parser.getValueAsString();
+                    case "author_id" -> authorId = parser.getValueAsString();
+                    case "like_count" -> likeCount = parser.getValueAsInt(0);
+                    case "error" -> throw new IOException(parser.getValueAsString());
+                    default -> parser.skipChildren();
+                }
+            }
+            return new CrawledComment(externalId, author, text, publishDate, authorId, likeCount);
+        }
+    }
+}
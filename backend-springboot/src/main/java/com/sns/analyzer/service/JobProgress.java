@@ -0,0 +1,90 @@
+// ==================== JobProgress.java ====================
+package com.sns.analyzer.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 크롤링/분석 작업 진행률 카운터
+ * - 값이 바뀔 때마다 listener 호출 (저장/SSE 전송 주기는 listener 쪽에서 조절)
+ * - 동기 호출 경로에서는 noop() 사용
+ */
+public class JobProgress {
+
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger crawled = new AtomicInteger();
+    private final AtomicInteger saved = new AtomicInteger();
+    private final AtomicInteger analyzed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final Runnable listener;
+
+    public JobProgress(Runnable listener) {
+        this.listener = listener;
+    }
+
+    public static JobProgress noop() {
+        return new JobProgress(null);
+    }
+
+    public void addTotal(int n) {
+        total.addAndGet(n);
+        changed();
+    }
+
+    public void addCrawled(int n) {
+        crawled.addAndGet(n);
+        changed();
+    }
+
+    public void addSaved(int n) {
+        saved.addAndGet(n);
+        changed();
+    }
+
+    public void addAnalyzed(int n) {
+        analyzed.addAndGet(n);
+        changed();
+    }
+
+    public void addFailed(int n) {
+        failed.addAndGet(n);
+        changed();
+    }
+
+    public int getTotal() {
+        return total.get();
+    }
+
+    public int getCrawled() {
+        return crawled.get();
+    }
+
+    public int getSaved() {
+        return saved.get();
+    }
+
+    public int getAnalyzed() {
+        return analyzed.get();
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("totalCount", total.get());
+        map.put("crawledCount", crawled.get());
+        map.put("savedCount", saved.get());
+        map.put("analyzedCount", analyzed.get());
+        map.put("failedCount", failed.get());
+        return map;
+    }
+
+    private void changed() {
+        if (listener != null) {
+            listener.run();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+// ==================== ReactiveAIClient.java ====================
+package com.sns.analyzer.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 논블로킹 AI 분석 클라이언트 (WebClient + Reactor Netty 커넥션 풀)
+ * - 요청당 스레드를 점유하지 않으므로 대량 분석 시 수백 건을 동시에 요청 가능
+ * - 판정 캐시를 먼저 확인하고, 새로 받은 판정은 캐시에 저장
+ * - 서킷 브레이커/벌크헤드에 막히거나 호출이 실패하면 규칙 기반 대체 판정 반환
+ * - 응답 시간 분포에 맞춘 타임아웃 + 헤지 요청으로 일부 AI 워커 지연 시 꼬리 지연 완화
+ *   (헤지는 호출 수의 budget-percent 이내 토큰 버킷 + 벌크헤드 빈 자리가 있을 때만 → AI 서비스 과부하 시 호출이 두 배가 되지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactiveAIClient {
+
+    private static final String ANALYZE_TEXT = "/analyze/text";
+
+    private static final ParameterizedTypeReference<Map<String, Object>> RESPONSE_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final WebClient aiWebClient;
+    private final AIVerdictCache aiVerdictCache;
+    private final AICircuitBreaker aiCircuitBreaker;
+    private final RuleBasedAnalyzer ruleBasedAnalyzer;
+    private final AILatencyTracker aiLatencyTracker;
+
+    @Value("${ai.service.hedge.enabled:true}")
+    private boolean hedgeEnabled;
+
+    // 호출 100건당 보낼 수 있는 헤지 수
+    @Value("${ai.service.hedge.budget-percent:5}")
+    private double hedgeBudgetPercent;
+
+    // 한 번에 몰아서 쓸 수 있는 헤지 토큰 수
+    @Value("${ai.service.hedge.max-burst:10}")
+    private double hedgeMaxBurst;
+
+    private double hedgeTokens;
+
+    /**
+     * 텍스트 분석 (/analyze/text)
+     */
+    public Mono<Map<String, Object>> analyzeText(String text, List<String> customBlockedWords) {
+        Map<String, Object> cached = aiVerdictCache.get(text, customBlockedWords);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        // 구독 시점에 호출 허가를 받음 (구독되지 않은 Mono 가 벌크헤드 자리를 점유하지 않도록)
+        return Mono.defer(() -> {
+            AICircuitBreaker.Permit permit = aiCircuitBreaker.tryAcquire(false);
+            if (permit == null) {
+                return Mono.just(ruleBasedAnalyzer.fallback(text, customBlockedWords));
+            }
+
+            return postAnalyzeText(text, customBlockedWords)
+                    .doOnNext(body -> aiVerdictCache.put(text, customBlockedWords, body))
+                    .doOnSuccess(body -> permit.success())
+                    .doOnError(e -> permit.failure())
+                    .doOnCancel(permit::success)
+                    .onErrorResume(e -> {
+                        System.err.println("[ERROR] AI call failed, using fallback: " + e.getMessage());
+                        return Mono.just(ruleBasedAnalyzer.fallback(text, customBlockedWords));
+                    });
+        });
+    }
+
+    /**
+     * /analyze/text 호출 (캐시/서킷 없이)
+     * - 타임아웃은 최근 p99 기반으로 조정
+     * - p95 안에 응답이 없으면 같은 요청을 한 번 더 보내고 먼저 도착한 응답 사용 (늦은 쪽은 취소)
+     */
+    public Mono<Map<String, Object>> postAnalyzeText(String text, List<String> customBlockedWords) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("text", text);
+        request.put("language", "ko");
+        request.put("use_dual_model", true);
+        request.put("custom_blocked_words", customBlockedWords);
+
+        return Mono.defer(() -> {
+            long hedgeDelayMs = hedgeEnabled ? aiLatencyTracker.hedgeDelayMs(ANALYZE_TEXT) : -1;
+            Mono<Map<String, Object>> primary = timedCall(request, false);
+            earnHedgeToken();
+            if (hedgeDelayMs < 0) {
+                return primary;
+            }
+            Mono<Map<String, Object>> hedge = Mono.delay(Duration.ofMillis(hedgeDelayMs))
+                    .flatMap(tick -> {
+                        AICircuitBreaker.Permit permit = aiCircuitBreaker.tryAcquireHedge();
+                        if (permit == null || !takeHedgeToken()) {
+                            if (permit != null) {
+                                permit.success();
+                            }
+                            aiLatencyTracker.hedgeSkipped();
+                            return Mono.empty();
+                        }
+                        aiLatencyTracker.hedgeSent();
+                        return timedCall(request, true).doFinally(signal -> permit.success());
+                    });
+            return Mono.firstWithValue(primary, hedge);
+        });
+    }
+
+    private synchronized void earnHedgeToken() {
+        hedgeTokens = Math.min(hedgeMaxBurst, hedgeTokens + hedgeBudgetPercent / 100.0);
+    }
+
+    private synchronized boolean takeHedgeToken() {
+        if (hedgeTokens < 1) {
+            return false;
+        }
+        hedgeTokens -= 1;
+        return true;
+    }
+
+    private Mono<Map<String, Object>> timedCall(Map<String, Object> request, boolean hedge) {
+        return Mono.defer(() -> {
+            long timeoutMs = aiLatencyTracker.timeoutMs(ANALYZE_TEXT);
+            long start = System.currentTimeMillis();
+            return aiWebClient.post()
+                    .uri(ANALYZE_TEXT)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(request)
+                    .retrieve()
+                    .bodyToMono(RESPONSE_TYPE)
+                    .map(body -> (Map<String, Object>) new HashMap<>(body))
+                    .defaultIfEmpty(new HashMap<>())
+                    .timeout(Duration.ofMillis(timeoutMs))
+                    .doOnNext(body -> {
+                        aiLatencyTracker.record(ANALYZE_TEXT, System.currentTimeMillis() - start);
+                        if (hedge) {
+                            aiLatencyTracker.hedgeWon();
+                        }
+                    })
+                    .doOnError(TimeoutException.class, e -> aiLatencyTracker.recordTimeout(ANALYZE_TEXT, timeoutMs));
+        });
+    }
+}
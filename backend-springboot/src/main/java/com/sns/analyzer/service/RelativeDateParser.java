@@ -0,0 +1,206 @@
+// ==================== RelativeDateParser.java ====================
+package com.sns.analyzer.service;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * YouTube 댓글 작성 시각 파서 ("3일 전", "2 weeks ago", "2024. 1. 20.")
+ * - 문자열을 한 번만 훑으면서 숫자/절대 날짜 형식/시간 단위를 함께 판정 (정규식, toLowerCase, 중간 문자열 없음)
+ * - 기준 시각은 생성 시 고정 → 한 번의 크롤링에서 모든 댓글이 같은 now 기준으로 계산됨
+ * - 판정 규칙은 기존 CommentService.parseRelativeDate 와 동일 (파싱 실패 시 기준 시각 반환)
+ * - 직전 입력과 같은 문자열 객체면 결과 재사용 (기간 판정과 변환에서 같은 댓글을 두 번 파싱하지 않도록)
+ * - 크롤링 1회(한 스레드)에서만 사용, 스레드 안전하지 않음
+ */
+public final class RelativeDateParser {
+
+    private static final int SECOND = 1;
+    private static final int MINUTE = 1 << 1;
+    private static final int HOUR = 1 << 2;
+    private static final int DAY = 1 << 3;
+    private static final int WEEK = 1 << 4;
+    private static final int MONTH = 1 << 5;
+    private static final int YEAR = 1 << 6;
+
+    // 절대 날짜(yyyy.M.d) 판정 상태
+    private static final int DATE_YEAR = 0;
+    private static final int DATE_MONTH = 1;
+    private static final int DATE_DAY = 2;
+    private static final int DATE_EXTRA = 3;
+    private static final int DATE_FAIL = 4;
+
+    private final LocalDateTime now;
+    private String lastText;
+    private LocalDateTime lastResult;
+
+    public RelativeDateParser(LocalDateTime now) {
+        this.now = now.withNano(0);
+    }
+
+    public LocalDateTime now() {
+        return now;
+    }
+
+    /**
+     * 작성 시각 계산 (알 수 없는 형식이면 기준 시각)
+     */
+    public LocalDateTime parse(String text) {
+        if (text == null || text.isEmpty()) {
+            return now;
+        }
+        if (text == lastText) {
+            return lastResult;
+        }
+        LocalDateTime result = parseText(text);
+        lastText = text;
+        lastResult = result;
+        return result;
+    }
+
+    private LocalDateTime parseText(String text) {
+
+        long amount = 0;
+        boolean hasDigit = false;
+        boolean overflow = false;
+        int units = 0;
+
+        // 숫자/./- 만 이어 붙인 문자열이 yyyy[.-]M[.-]d(+1자) 인지 판정
+        int dateState = DATE_YEAR;
+        int partDigits = 0;
+        int year = 0;
+        int month = 0;
+        int day = 0;
+
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char ch = text.charAt(i);
+            if (ch >= '0' && ch <= '9') {
+                int digit = ch - '0';
+                hasDigit = true;
+                if (!overflow) {
+                    amount = amount * 10 + digit;
+                    overflow = amount > Integer.MAX_VALUE;
+                }
+                switch (dateState) {
+                    case DATE_YEAR -> {
+                        if (partDigits < 4) {
+                            year = year * 10 + digit;
+                            partDigits++;
+                        } else {
+                            dateState = DATE_FAIL;
+                        }
+                    }
+                    case DATE_MONTH -> {
+                        if (partDigits < 2) {
+                            month = month * 10 + digit;
+                            partDigits++;
+                        } else {
+                            dateState = DATE_FAIL;
+                        }
+                    }
+                    case DATE_DAY -> {
+                        day = day * 10 + digit; // 3번째 숫자는 마지막 1자로 허용되며 일자에 붙음
+                        if (++partDigits > 2) {
+                            dateState = DATE_EXTRA;
+                        }
+                    }
+                    case DATE_EXTRA -> dateState = DATE_FAIL;
+                    default -> {
+                    }
+                }
+            } else if (ch == '.' || ch == '-') {
+                switch (dateState) {
+                    case DATE_YEAR -> dateState = partDigits == 4 ? DATE_MONTH : DATE_FAIL;
+                    case DATE_MONTH -> dateState = partDigits >= 1 ? DATE_DAY : DATE_FAIL;
+                    case DATE_DAY -> dateState = partDigits >= 1 ? DATE_EXTRA : DATE_FAIL;
+                    case DATE_EXTRA -> dateState = DATE_FAIL;
+                    default -> {
+                    }
+                }
+                if (dateState == DATE_MONTH || dateState == DATE_DAY) {
+                    partDigits = 0;
+                }
+            } else {
+                units |= unitAt(text, i, ch);
+            }
+        }
+
+        try {
+            if (dateState == DATE_EXTRA || (dateState == DATE_DAY && partDigits >= 1)) {
+                return LocalDate.of(year, month, day).atStartOfDay();
+            }
+            if (overflow) {
+                throw new NumberFormatException("For input string: \"" + text + "\"");
+            }
+            int value = hasDigit ? (int) amount : 1;
+
+            switch (Integer.lowestOneBit(units)) {
+                case SECOND:
+                    return now.minusSeconds(value);
+                case MINUTE:
+                    return now.minusMinutes(value);
+                case HOUR:
+                    return now.minusHours(value);
+                case DAY:
+                    return now.minusDays(value);
+                case WEEK:
+                    return now.minusWeeks(value);
+                case MONTH:
+                    return now.minusMonths(value);
+                case YEAR:
+                    return now.minusYears(value);
+                default:
+                    return now;
+            }
+        } catch (DateTimeException | ArithmeticException | NumberFormatException e) {
+            System.err.println("Failed to parse date: " + text + " - " + e.getMessage());
+            return now;
+        }
+    }
+
+    /**
+     * i 위치에서 시작하는 시간 단위 (초/분/시간/일/주/달/개월/년, second/minute/hour/day/week/month/year)
+     */
+    private static int unitAt(String text, int i, char ch) {
+        switch (ch) {
+            case '초':
+                return SECOND;
+            case '분':
+                return MINUTE;
+            case '시':
+                return i + 1 < text.length() && text.charAt(i + 1) == '간' ? HOUR : 0;
+            case '일':
+                return DAY;
+            case '주':
+                return WEEK;
+            case '달':
+                return MONTH;
+            case '개':
+                return i + 1 < text.length() && text.charAt(i + 1) == '월' ? MONTH : 0;
+            case '년':
+                return YEAR;
+            default:
+                break;
+        }
+        switch (Character.toLowerCase(ch)) {
+            case 's':
+                return text.regionMatches(true, i, "second", 0, 6) ? SECOND : 0;
+            case 'm':
+                if (text.regionMatches(true, i, "minute", 0, 6)) {
+                    return MINUTE;
+                }
+                return text.regionMatches(true, i, "month", 0, 5) ? MONTH : 0;
+            case 'h':
+                return text.regionMatches(true, i, "hour", 0, 4) ? HOUR : 0;
+            case 'd':
+                return text.regionMatches(true, i, "day", 0, 3) ? DAY : 0;
+            case 'w':
+                return text.regionMatches(true, i, "week", 0, 4) ? WEEK : 0;
+            case 'y':
+                return text.regionMatches(true, i, "year", 0, 4) ? YEAR : 0;
+            default:
+                return 0;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+// ==================== RuleBasedAnalyzer.java ====================
+package com.sns.analyzer.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JVM 내부 규칙 기반 분석기
+ * - FastAPI 의 _rule_based_filter / _create_fallback_response 와 같은 규칙과 응답 형식
+ * - AI 서비스 장애(서킷 오픈) 시 대체 판정으로 사용
+ */
+@Component
+public class RuleBasedAnalyzer {
+
+    public static final String FALLBACK_MODEL_VERSION = "rule-based-fallback";
+
+    // FastAPI GroqDualModelAnalyzer.blocked_words 와 동일
+    private static final List<String> DEFAULT_BLOCKED_WORDS = List.of(
+            "바보", "멍청이", "병신", "개새끼", "씨발", "지랄", "미친",
+            "죽여", "죽일", "때려", "혐오", "차별", "꺼져", "닥쳐", "개자식", "양아치",
+            "stupid", "idiot", "fuck", "shit", "kill", "hate", "damn");
+
+    /**
+     * 기본 욕설 사전 단어 포함 여부 (소문자로 변환된 텍스트)
+     */
+    public static boolean containsDefaultBlockedWord(String textLower) {
+        for (String word : DEFAULT_BLOCKED_WORDS) {
+            if (textLower.contains(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 규칙 기반 판정 (AI 응답과 같은 키 구조)
+     */
+    public Map<String, Object> analyze(String text, List<String> customBlockedWords, String modelVersion) {
+        long start = System.currentTimeMillis();
+        String textLower = text != null ? text.toLowerCase() : "";
+
+        List<String> detected = new ArrayList<>();
+        double score = 0.0;
+        for (String word : DEFAULT_BLOCKED_WORDS) {
+            if (textLower.contains(word)) {
+                detected.add(word);
+                score += 25.0;
+            }
+        }
+        score = Math.min(score, 100.0);
+
+        List<String> userBlockedFound = new ArrayList<>();
+        if (customBlockedWords != null) {
+            for (String word : customBlockedWords) {
+                if (textLower.contains(word.toLowerCase())) {
+                    userBlockedFound.add(word);
+                }
+            }
+        }
+
+        boolean isMalicious = score > 50.0;
+        boolean isBlocked = !userBlockedFound.isEmpty();
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("is_malicious", isMalicious);
+        result.put("is_blocked", isBlocked);
+        result.put("blocked_words_found", userBlockedFound);
+        result.put("status", isBlocked ? "blocked" : (isMalicious ? "malicious" : "clean"));
+        result.put("toxicity_score", score);
+        result.put("hate_speech_score", Math.max(0, score - 20));
+        result.put("profanity_score", Math.max(0, score - 10));
+        result.put("threat_score", Math.max(0, score - 30));
+        result.put("violence_score", Math.max(0, score - 25));
+        result.put("sexual_score", Math.max(0, score - 35));
+        result.put("confidence_score", 40.0);
+        result.put("category", score > 50 ? "toxic" : "safe");
+        result.put("detected_keywords", detected);
+        result.put("llama_reasoning", "Fallback: Rule-based only");
+        result.put("ai_model_version", modelVersion);
+        result.put("processing_time_ms", System.currentTimeMillis() - start);
+        return result;
+    }
+
+    /**
+     * AI 서비스 장애 시 대체 판정 (재분석 대상 표시)
+     */
+    public Map<String, Object> fallback(String text, List<String> customBlockedWords) {
+        Map<String, Object> result = analyze(text, customBlockedWords, FALLBACK_MODEL_VERSION);
+        result.put("fallback", true);
+        return result;
+    }
+
+    /**
+     * 대체 판정 결과인지 여부
+     */
+    public static boolean isFallback(Map<String, Object> aiResult) {
+        return aiResult != null && Boolean.TRUE.equals(aiResult.get("fallback"));
+    }
+}
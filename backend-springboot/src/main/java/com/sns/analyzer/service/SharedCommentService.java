@@ -0,0 +1,121 @@
+// ==================== SharedCommentService.java ====================
+package com.sns.analyzer.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sns.analyzer.entity.SharedComment;
+import com.sns.analyzer.repository.SharedCommentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공용 댓글 모델 판정 저장소
+ * - AI 서비스는 사용자 차단 단어 없이 호출하고 결과를 shared_comments 에 저장 → 다른 사용자는 재사용
+ * - 사용자 차단 단어 판정(is_blocked / blocked_words_found / status)은 FastAPI 와 같은 규칙으로 JVM 에서 덧씌움
+ * - 판정은 분석할 텍스트가 공용 댓글 내용과 같을 때만 재사용/저장 (댓글이 수정되면 수집 시 판정이 지워짐)
+ */
+@Service
+@RequiredArgsConstructor
+public class SharedCommentService {
+
+    private static final TypeReference<Map<String, Object>> VERDICT_TYPE = new TypeReference<>() {
+    };
+
+    private final SharedCommentRepository sharedCommentRepository;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong reused = new AtomicLong();
+    private final AtomicLong stored = new AtomicLong();
+
+    /**
+     * text 로 받은 저장된 모델 판정 (없거나 공용 댓글 내용이 text 와 다르면 null)
+     */
+    public Map<String, Object> findModelVerdict(Long sharedCommentId, String text) {
+        if (sharedCommentId == null) {
+            return null;
+        }
+        return findModelVerdicts(Collections.singletonMap(sharedCommentId, text)).get(sharedCommentId);
+    }
+
+    /**
+     * 저장된 모델 판정 일괄 조회 (공용 댓글 ID → 분석할 텍스트, 쿼리 1회)
+     * 판정이 없거나 공용 댓글 내용이 텍스트와 다른 ID 는 결과에 없음
+     */
+    public Map<Long, Map<String, Object>> findModelVerdicts(Map<Long, String> textsBySharedId) {
+        Map<Long, Map<String, Object>> verdicts = new HashMap<>();
+        if (textsBySharedId.isEmpty()) {
+            return verdicts;
+        }
+        for (SharedComment shared : sharedCommentRepository.findScoredByIds(textsBySharedId.keySet())) {
+            if (!Objects.equals(shared.getContent(), textsBySharedId.get(shared.getSharedCommentId()))) {
+                continue;
+            }
+            try {
+                verdicts.put(shared.getSharedCommentId(), objectMapper.readValue(shared.getModelVerdict(), VERDICT_TYPE));
+            } catch (JsonProcessingException e) {
+                System.err.println("[ERROR] Invalid shared verdict " + shared.getSharedCommentId() + ": "
+                        + e.getMessage());
+            }
+        }
+        reused.addAndGet(verdicts.size());
+        return verdicts;
+    }
+
+    /**
+     * text 로 받은 모델 판정 저장 (공용 댓글이 아니거나 규칙 기반 대체 판정이면 저장하지 않음)
+     */
+    public void saveModelVerdict(Long sharedCommentId, String text, Map<String, Object> modelVerdict) {
+        if (sharedCommentId == null || text == null || modelVerdict == null
+                || RuleBasedAnalyzer.isFallback(modelVerdict)) {
+            return;
+        }
+        try {
+            String json = objectMapper.writeValueAsString(modelVerdict);
+            Object version = modelVerdict.get("ai_model_version");
+            if (sharedCommentRepository.saveModelVerdict(sharedCommentId, text, json,
+                    version != null ? version.toString() : null, LocalDateTime.now()) > 0) {
+                stored.incrementAndGet();
+            }
+        } catch (JsonProcessingException e) {
+            System.err.println("[ERROR] Failed to store shared verdict " + sharedCommentId + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * 모델 판정에 사용자 차단 단어 판정을 덧씌운 복사본 (FastAPI analyze_text 와 같은 키, 매칭은 BlockedWordDictionary)
+     */
+    public static Map<String, Object> applyBlockedWords(String text, Map<String, Object> modelVerdict,
+            BlockedWordDictionary dictionary) {
+        Map<String, Object> result = new HashMap<>(modelVerdict);
+
+        List<String> found = dictionary.findAllWords(text);
+        boolean isBlocked = !found.isEmpty();
+        result.put("is_blocked", isBlocked);
+        result.put("blocked_words_found", found);
+        result.put("status", isBlocked ? "blocked"
+                : (Boolean.TRUE.equals(result.get("is_malicious")) ? "malicious" : "clean"));
+        return result;
+    }
+
+    /**
+     * 공용 판정 재사용/저장 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("sharedComments", sharedCommentRepository.count());
+        stats.put("scoredComments", sharedCommentRepository.countByModelVerdictIsNotNull());
+        stats.put("verdictsReused", reused.get());
+        stats.put("verdictsStored", stored.get());
+        return stats;
+    }
+}
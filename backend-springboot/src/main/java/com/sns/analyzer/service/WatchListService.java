@@ -0,0 +1,312 @@
+// ==================== WatchListService.java ====================
+package com.sns.analyzer.service;
+
+import com.sns.analyzer.entity.WatchedContent;
+import com.sns.analyzer.repository.WatchedContentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 감시 목록 자동 재수집 스케줄러
+ * - tick 마다 수집 시각이 된 대상을 골라 watchExecutor 에서 증분 크롤링 (저장 후 분석은 분석 작업 큐가 처리)
+ * - 대상은 DB 에서 먼저 임대(조건부 UPDATE)한 뒤 실행 → 인스턴스가 여러 개여도 같은 대상은 한 곳에서만 수집
+ *   (임대는 수집이 끝나면 해제, 인스턴스가 죽으면 lease-minutes 후 만료되어 다시 수집 대상이 됨)
+ * - 전체 동시 실행 수(watch.max-concurrent)와 사용자별 동시 실행 수(watch.per-user-max-concurrent)는
+ *   DB 의 임대 수로 세므로 모든 인스턴스 합계 기준 (인스턴스들의 tick 이 동시에 겹치면 잠깐 넘을 수 있음)
+ * - 수집 주기는 새 댓글 수에 맞춰 조정: 목표보다 많으면 줄이고, 없으면 두 배로 (min/max 범위)
+ * - 다음 수집 시각에 지터를 더해 같은 시각에 등록된 대상이 한꺼번에 실행되지 않도록 분산
+ */
+@Service
+@RequiredArgsConstructor
+public class WatchListService {
+
+    private final WatchedContentRepository watchedContentRepository;
+    private final CommentService commentService;
+    private final ExecutorService watchExecutor;
+
+    @Value("${watch.enabled:true}")
+    private boolean enabled;
+
+    @Value("${watch.tick-seconds:15}")
+    private long tickSeconds;
+
+    @Value("${watch.max-concurrent:2}")
+    private int maxConcurrent;
+
+    @Value("${watch.per-user-max-concurrent:1}")
+    private int perUserMaxConcurrent;
+
+    @Value("${watch.max-per-user:20}")
+    private int maxPerUser;
+
+    @Value("${watch.initial-interval-minutes:30}")
+    private int initialIntervalMinutes;
+
+    @Value("${watch.min-interval-minutes:5}")
+    private int minIntervalMinutes;
+
+    @Value("${watch.max-interval-minutes:720}")
+    private int maxIntervalMinutes;
+
+    // 수집 1회에 이 정도의 새 댓글이 들어오도록 주기를 맞춤
+    @Value("${watch.target-new-comments:20}")
+    private int targetNewComments;
+
+    @Value("${watch.jitter-ratio:0.2}")
+    private double jitterRatio;
+
+    // 연속 실패 시 자동 비활성화
+    @Value("${watch.max-consecutive-failures:5}")
+    private int maxConsecutiveFailures;
+
+    // 수집 1회 임대 시간 (이보다 오래 걸리는 수집은 다른 인스턴스가 다시 가져갈 수 있음)
+    @Value("${watch.lease-minutes:60}")
+    private long leaseMinutes;
+
+    private final String instanceId = "watch-" + UUID.randomUUID().toString().substring(0, 8);
+
+    // 이 인스턴스에서 실행 중인 감시 대상 (tick 스레드와 실행 스레드가 공유)
+    private final Set<Long> runningWatchIds = ConcurrentHashMap.newKeySet();
+    private final AtomicLong crawlsStarted = new AtomicLong();
+    private final AtomicLong crawlsFailed = new AtomicLong();
+    private final AtomicLong skippedByUserCap = new AtomicLong();
+
+    private ScheduledExecutorService ticker;
+
+    /**
+     * 감시 대상 등록 (첫 수집 시각은 지터 범위 안에서 분산)
+     */
+    public WatchedContent addWatch(Long userId, String url) {
+        if (url == null || url.isBlank()) {
+            throw new IllegalArgumentException("URL is required");
+        }
+        String contentUrl = url.trim();
+        if (watchedContentRepository.findByUserIdAndContentUrl(userId, contentUrl).isPresent()) {
+            throw new IllegalArgumentException("Already watching this URL");
+        }
+        if (watchedContentRepository.countByUserId(userId) >= maxPerUser) {
+            throw new IllegalArgumentException("Watch list limit reached (" + maxPerUser + ")");
+        }
+
+        WatchedContent watch = WatchedContent.builder()
+                .userId(userId)
+                .contentUrl(contentUrl)
+                .intervalMinutes(initialIntervalMinutes)
+                .nextCrawlAt(LocalDateTime.now().plusSeconds(Math.abs(jitterSeconds(initialIntervalMinutes))))
+                .build();
+        return watchedContentRepository.save(watch);
+    }
+
+    public List<WatchedContent> getWatches(Long userId) {
+        return watchedContentRepository.findByUserIdOrderByCreatedAtDesc(userId);
+    }
+
+    /**
+     * 감시 활성/비활성 (다시 켜면 실패 횟수 초기화 후 곧 수집)
+     * 필요한 컬럼만 UPDATE → 수집 중인 대상의 임대(leaseOwner/leaseExpiresAt)를 덮어쓰지 않음
+     */
+    public WatchedContent setEnabled(Long watchId, Long userId, boolean value) {
+        getOwnedWatch(watchId, userId);
+        if (value) {
+            watchedContentRepository.enable(watchId, userId,
+                    LocalDateTime.now().plusSeconds(Math.abs(jitterSeconds(minIntervalMinutes))));
+        } else {
+            watchedContentRepository.disable(watchId, userId);
+        }
+        return getOwnedWatch(watchId, userId);
+    }
+
+    public void deleteWatch(Long watchId, Long userId) {
+        watchedContentRepository.delete(getOwnedWatch(watchId, userId));
+    }
+
+    private WatchedContent getOwnedWatch(Long watchId, Long userId) {
+        WatchedContent watch = watchedContentRepository.findById(watchId)
+                .orElseThrow(() -> new IllegalArgumentException("Watch not found"));
+        if (!watch.getUserId().equals(userId)) {
+            throw new IllegalArgumentException("Watch not found");
+        }
+        return watch;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "watch-scheduler");
+            t.setDaemon(true);
+            return t;
+        });
+        ticker.scheduleWithFixedDelay(this::tick, tickSeconds, tickSeconds, TimeUnit.SECONDS);
+        System.out.println("[DEBUG] Watch list scheduler started: tick " + tickSeconds + "s, max "
+                + maxConcurrent + " concurrent (" + perUserMaxConcurrent + " per user)");
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    /**
+     * 스케줄러 상태
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("maxConcurrent", maxConcurrent);
+        stats.put("perUserMaxConcurrent", perUserMaxConcurrent);
+        stats.put("running", runningWatchIds.size());
+        stats.put("runningAllInstances", watchedContentRepository.countByLeaseExpiresAtAfter(LocalDateTime.now()));
+        stats.put("crawlsStarted", crawlsStarted.get());
+        stats.put("crawlsFailed", crawlsFailed.get());
+        stats.put("skippedByUserCap", skippedByUserCap.get());
+        return stats;
+    }
+
+    /**
+     * 수집 시각이 된 대상을 빈 슬롯만큼 임대 후 실행
+     */
+    private void tick() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            long running = watchedContentRepository.countByLeaseExpiresAtAfter(now);
+            if (running >= maxConcurrent) {
+                return;
+            }
+            List<WatchedContent> due = watchedContentRepository.findDue(now, PageRequest.of(0, 50));
+            for (WatchedContent watch : due) {
+                if (running >= maxConcurrent) {
+                    break;
+                }
+                if (watchedContentRepository.countByUserIdAndLeaseExpiresAtAfter(watch.getUserId(), now)
+                        >= perUserMaxConcurrent) {
+                    skippedByUserCap.incrementAndGet(); // 다음 tick 에 다시 시도
+                    continue;
+                }
+                if (watchedContentRepository.claim(watch.getWatchId(), instanceId, now,
+                        now.plusMinutes(leaseMinutes)) == 0) {
+                    continue; // 다른 인스턴스가 먼저 임대
+                }
+                running++;
+                runningWatchIds.add(watch.getWatchId());
+                crawlsStarted.incrementAndGet();
+                watchExecutor.submit(() -> runCrawl(watch));
+            }
+        } catch (Exception e) {
+            System.err.println("[ERROR] Watch list tick failed: " + e.getMessage());
+        }
+    }
+
+    private void runCrawl(WatchedContent watch) {
+        Integer newCount = null;
+        String error = null;
+        try {
+            Map<String, Object> result = commentService.crawlAndAnalyze(
+                    watch.getContentUrl(), watch.getUserId(), null, null, JobProgress.noop());
+            newCount = ((Number) result.getOrDefault("savedCount", 0)).intValue();
+            int failCount = ((Number) result.getOrDefault("failCount", 0)).intValue();
+            if (failCount > 0) {
+                error = failCount + " comments failed to save";
+            }
+        } catch (Exception e) {
+            error = e.getMessage();
+        } finally {
+            try {
+                reschedule(watch.getWatchId(), newCount, error);
+            } catch (Exception e) {
+                System.err.println("[ERROR] Failed to reschedule watch " + watch.getWatchId() + ": " + e.getMessage());
+            } finally {
+                runningWatchIds.remove(watch.getWatchId());
+            }
+        }
+    }
+
+    /**
+     * 결과에 따라 다음 수집 주기/시각 갱신 + 임대 해제 (실행 중 삭제된 대상은 무시)
+     */
+    private void reschedule(Long watchId, Integer newCount, String error) {
+        WatchedContent watch = watchedContentRepository.findById(watchId).orElse(null);
+        if (watch == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int interval = watch.getIntervalMinutes();
+
+        if (error != null) {
+            crawlsFailed.incrementAndGet();
+            watch.setConsecutiveFailures(watch.getConsecutiveFailures() + 1);
+            watch.setLastError(error);
+            if (watch.getConsecutiveFailures() >= maxConsecutiveFailures) {
+                watch.setEnabled(false);
+                System.err.println("[ERROR] Watch " + watchId + " disabled after "
+                        + watch.getConsecutiveFailures() + " consecutive failures: " + error);
+            }
+            // 실패 횟수만큼 지수 백오프 (주기 자체는 유지)
+            long backoff = Math.min((long) maxIntervalMinutes,
+                    (long) interval << Math.min(watch.getConsecutiveFailures(), 10));
+            watch.setNextCrawlAt(now.plusMinutes(backoff).plusSeconds(jitterSeconds((int) backoff)));
+        } else {
+            interval = nextInterval(interval, newCount != null ? newCount : 0);
+            watch.setIntervalMinutes(interval);
+            watch.setLastNewCount(newCount != null ? newCount : 0);
+            watch.setConsecutiveFailures(0);
+            watch.setLastError(null);
+            watch.setNextCrawlAt(now.plusMinutes(interval).plusSeconds(jitterSeconds(interval)));
+        }
+        watch.setLastCrawledAt(now);
+        watch.setLeaseOwner(null);
+        watch.setLeaseExpiresAt(null);
+        watchedContentRepository.save(watch);
+
+        System.out.println("[DEBUG] Watch " + watchId + " crawled: new=" + newCount + ", next interval="
+                + interval + "m" + (error != null ? ", error=" + error : ""));
+    }
+
+    /**
+     * 새 댓글 유입 속도에 맞춘 다음 주기 (한 번에 최대 2배/절반까지만 변경)
+     */
+    private int nextInterval(int interval, int newCount) {
+        long next;
+        if (newCount <= 0) {
+            next = (long) interval * 2;
+        } else {
+            next = Math.round((double) interval * targetNewComments / newCount);
+            next = Math.max(interval / 2, Math.min((long) interval * 2, next));
+        }
+        return (int) Math.max(minIntervalMinutes, Math.min(maxIntervalMinutes, next));
+    }
+
+    /**
+     * 주기의 ±jitter-ratio 범위 지터 (초)
+     */
+    private long jitterSeconds(int intervalMinutes) {
+        long range = (long) (intervalMinutes * 60L * jitterRatio);
+        if (range <= 0) {
+            return 0;
+        }
+        return ThreadLocalRandom.current().nextLong(-range, range + 1);
+    }
+}
@@ -0,0 +1,72 @@
+// ==================== BlockedWordMatcherTest.java ====================
+package com.sns.analyzer.service;
+
+import com.sns.analyzer.entity.BlockedWord;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlockedWordMatcherTest {
+
+    private static final List<BlockedWord> WORDS = words("시발", "ㅅㅂ", "발", "ㅂㅅ");
+
+    @Test
+    void matchesSeparatedJamo() {
+        BlockedWordMatcher matcher = BlockedWordMatcher.compile(WORDS, true);
+        assertEquals("ㅅㅂ", matcher.firstMatch("ㅅ.ㅂ").getWord());
+    }
+
+    @Test
+    void matchesSplitJamo() {
+        BlockedWordMatcher matcher = BlockedWordMatcher.compile(WORDS, true);
+        assertEquals("시발", matcher.firstMatch("ㅅㅣㅂㅏㄹ").getWord());
+        assertEquals(List.of("시발", "발"), matcher.findAllWords("ㅅㅣㅂㅏㄹ"));
+    }
+
+    @Test
+    void doesNotMatchAcrossSyllables() {
+        BlockedWordMatcher matcher = BlockedWordMatcher.compile(WORDS, true);
+        assertNull(matcher.firstMatch("바람"));
+        assertNull(matcher.firstMatch("밥사"));
+    }
+
+    @Test
+    void doesNotMatchAcrossWordBoundaries() {
+        BlockedWordMatcher matcher = BlockedWordMatcher.compile(words("씨발"), true);
+        assertNull(matcher.firstMatch("아저씨 발가락"));
+        assertNull(matcher.firstMatch("아저씨, 발 조심하세요"));
+        assertEquals("씨발", matcher.firstMatch("씨 발").getWord());
+    }
+
+    @Test
+    void returnsWordsInListOrder() {
+        BlockedWordMatcher matcher = BlockedWordMatcher.compile(WORDS, true);
+        assertEquals(List.of("시발", "ㅅㅂ", "발"), matcher.findAllWords("발 ㅅ ㅂ 시 발"));
+    }
+
+    @Test
+    void comparesRawTextWithoutNormalization() {
+        BlockedWordMatcher matcher = BlockedWordMatcher.compile(WORDS, false);
+        assertNull(matcher.firstMatch("ㅅ.ㅂ"));
+        assertEquals("ㅅㅂ", matcher.firstMatch("ㅋㅋㅅㅂ").getWord());
+    }
+
+    @Test
+    void emptyMatcherMatchesNothing() {
+        BlockedWordMatcher matcher = BlockedWordMatcher.compile(List.of(), true);
+        assertTrue(matcher.isEmpty());
+        assertNull(matcher.firstMatch("시발"));
+        assertEquals(List.of(), matcher.findAll("시발"));
+    }
+
+    private static List<BlockedWord> words(String... words) {
+        return Arrays.stream(words)
+                .map(word -> BlockedWord.builder().word(word).isActive(true).build())
+                .toList();
+    }
+}
@@ -0,0 +1,64 @@
+// ==================== BlockedWordNormalizerTest.java ====================
+package com.sns.analyzer.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class BlockedWordNormalizerTest {
+
+    @Test
+    void removesSeparatorsBetweenJamo() {
+        assertEquals("ㅅㅂ", BlockedWordNormalizer.normalize("ㅅ.ㅂ"));
+        assertEquals("ㅅㅂ", BlockedWordNormalizer.normalize("ㅅ ㅂ"));
+        assertEquals("씨발", BlockedWordNormalizer.normalize("씨 발"));
+    }
+
+    @Test
+    void keepsWordBoundariesAroundLongerTokens() {
+        // 여러 글자 토큰 사이의 띄어쓰기는 경계로 남음 → "씨발" 이 생기지 않음
+        assertEquals("아저씨 발가락", BlockedWordNormalizer.normalize("아저씨 발가락"));
+        assertEquals("씨 발가락", BlockedWordNormalizer.normalize("씨 발가락"));
+        assertEquals("개 새끼", BlockedWordNormalizer.normalize("개.. 새끼"));
+        assertEquals("씨발놈", BlockedWordNormalizer.normalize("씨 발 놈"));
+        assertEquals("시발", BlockedWordNormalizer.normalize("ㅅㅣ ㅂㅏ ㄹ"));
+    }
+
+    @Test
+    void recomposesSplitJamo() {
+        assertEquals("시발", BlockedWordNormalizer.normalize("ㅅㅣㅂㅏㄹ"));
+        assertEquals("시발", BlockedWordNormalizer.normalize("시바ㄹ"));
+    }
+
+    @Test
+    void recomposesConjoiningJamo() {
+        assertEquals("시발", BlockedWordNormalizer.normalize(Normalizer.normalize("시발", Normalizer.Form.NFD)));
+    }
+
+    @Test
+    void keepsSyllableBoundaries() {
+        // 음절을 자모로 풀어 비교하지 않으므로 "바람" 에 "발" 이 생기지 않음
+        assertEquals("바람", BlockedWordNormalizer.normalize("바람"));
+        assertEquals("밥사", BlockedWordNormalizer.normalize("밥사"));
+    }
+
+    @Test
+    void foldsLookalikesAndCase() {
+        assertEquals("abc", BlockedWordNormalizer.normalize("ＡＢＣ"));
+        assertEquals("ass", BlockedWordNormalizer.normalize("@$S"));
+    }
+
+    @Test
+    void stopsWhenSinkRejects() {
+        StringBuilder received = new StringBuilder();
+        BlockedWordNormalizer normalizer = new BlockedWordNormalizer(ch -> {
+            received.append(ch);
+            return received.length() < 2;
+        });
+        assertFalse(normalizer.feed("가나다라"));
+        assertEquals("가나", received.toString());
+    }
+}
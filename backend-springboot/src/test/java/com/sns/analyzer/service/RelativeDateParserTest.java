@@ -0,0 +1,106 @@
+// ==================== RelativeDateParserTest.java ====================
+package com.sns.analyzer.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RelativeDateParserTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 15, 12, 30, 45);
+
+    private static final String[] TOKENS = {
+            "0", "1", "3", "12", "2024", "99999999999", ".", "-", " ", "전", "ago", "x", "ㅎ",
+            "초", "분", "시간", "시", "간", "일", "주", "달", "개월", "개", "월", "년",
+            "second", "seconds", "minute", "hour", "day", "week", "month", "year", "Minute", "HOUR", "s", "m"
+    };
+
+    @Test
+    void parsesRelativeTimes() {
+        RelativeDateParser parser = new RelativeDateParser(NOW);
+        assertEquals(NOW.minusDays(3), parser.parse("3일 전"));
+        assertEquals(NOW.minusHours(5), parser.parse("5시간 전"));
+        assertEquals(NOW.minusMonths(2), parser.parse("2개월 전"));
+        assertEquals(NOW.minusWeeks(2), parser.parse("2 weeks ago"));
+        assertEquals(NOW.minusYears(1), parser.parse("a year ago"));
+        assertEquals(NOW.minusMinutes(10), parser.parse("10 Minutes ago (edited)"));
+    }
+
+    @Test
+    void parsesAbsoluteDates() {
+        RelativeDateParser parser = new RelativeDateParser(NOW);
+        assertEquals(LocalDate.of(2024, 1, 20).atStartOfDay(), parser.parse("2024. 1. 20."));
+        assertEquals(LocalDate.of(2023, 12, 5).atStartOfDay(), parser.parse("2023-12-05"));
+    }
+
+    @Test
+    void fallsBackToNow() {
+        RelativeDateParser parser = new RelativeDateParser(NOW);
+        assertEquals(NOW, parser.parse(null));
+        assertEquals(NOW, parser.parse(""));
+        assertEquals(NOW, parser.parse("방금"));
+        assertEquals(NOW, parser.parse("2024. 13. 40."));
+        assertEquals(NOW, parser.parse("99999999999일 전"));
+    }
+
+    @Test
+    void matchesLegacyRegexParser() {
+        RelativeDateParser parser = new RelativeDateParser(NOW);
+        Random random = new Random(20240315L);
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder text = new StringBuilder();
+            int tokens = 1 + random.nextInt(6);
+            for (int t = 0; t < tokens; t++) {
+                text.append(TOKENS[random.nextInt(TOKENS.length)]);
+            }
+            String input = text.toString();
+            assertEquals(legacyParse(input, NOW), parser.parse(input), input);
+        }
+    }
+
+    /**
+     * 이전 CommentService.parseRelativeDate (정규식 + toLowerCase + contains), 기준 시각만 인자로 받도록 변경
+     */
+    private static LocalDateTime legacyParse(String relativeTime, LocalDateTime now) {
+        if (relativeTime == null || relativeTime.isEmpty())
+            return now;
+
+        try {
+            String cleanDate = relativeTime.replaceAll("[^0-9.\\-]", "");
+            if (cleanDate.matches("\\d{4}[.\\-]\\d{1,2}[.\\-]\\d{1,2}.?")) {
+                String[] parts = cleanDate.split("[.\\-]");
+                int year = Integer.parseInt(parts[0]);
+                int month = Integer.parseInt(parts[1]);
+                int day = Integer.parseInt(parts[2].replaceAll("[^0-9]", ""));
+                return LocalDate.of(year, month, day).atStartOfDay();
+            }
+
+            String numericPart = relativeTime.replaceAll("[^0-9]", "");
+            int amount = numericPart.isEmpty() ? 1 : Integer.parseInt(numericPart);
+
+            String timeStr = relativeTime.toLowerCase();
+            if (timeStr.contains("초") || timeStr.contains("second")) {
+                return now.minusSeconds(amount);
+            } else if (timeStr.contains("분") || timeStr.contains("minute")) {
+                return now.minusMinutes(amount);
+            } else if (timeStr.contains("시간") || timeStr.contains("hour")) {
+                return now.minusHours(amount);
+            } else if (timeStr.contains("일") || timeStr.contains("day")) {
+                return now.minusDays(amount);
+            } else if (timeStr.contains("주") || timeStr.contains("week")) {
+                return now.minusWeeks(amount);
+            } else if (timeStr.contains("달") || timeStr.contains("개월") || timeStr.contains("month")) {
+                return now.minusMonths(amount);
+            } else if (timeStr.contains("년") || timeStr.contains("year")) {
+                return now.minusYears(amount);
+            }
+        } catch (Exception e) {
+            // 기준 시각 반환
+        }
+        return now;
+    }
+}